@@ -1,10 +1,12 @@
 package app;
 
+import java.util.Arrays;
 import view.CardGameView;
 
 /**
  * The Main class is the entry point of the application.
- * The class contains the main method which launches the graphical user interface.
+ * The class contains the main method which launches the graphical user interface,
+ * or runs a headless batch command (see {@link BatchMain}) when the first argument is --batch.
  *
  * @author Johannes Nupen Theigen
  * @version 0.0.3
@@ -13,11 +15,16 @@ import view.CardGameView;
 public class Main {
 
   /**
-   * The main method of the Main class which launches the graphical user interface.
+   * The main method of the Main class which launches the graphical user interface,
+   * or runs a batch command without starting JavaFX if the first argument is --batch.
    *
    * @param args The command-line arguments
    */
   public static void main(String[] args) {
-    CardGameView.main(args);
+    if (args.length > 0 && args[0].equals("--batch")) {
+      BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+    } else {
+      CardGameView.main(args);
+    }
   }
 }
@@ -0,0 +1,37 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The BenchmarkRunner class is the entry point of the benchmark jar. It runs the
+ * benchmarks selected on the command line (all of them by default) with the GC profiler
+ * enabled, so that every result reports both the throughput and the allocation rate.
+ * The usual JMH command-line options (e.g. a benchmark name pattern or -f) are supported.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class BenchmarkRunner {
+
+  /**
+   * The main method of the BenchmarkRunner class which runs the benchmarks.
+   *
+   * @param args The JMH command-line options
+   * @throws CommandLineOptionException if the command-line options are not valid
+   * @throws RunnerException if the benchmarks could not be run
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import model.CardManager;
+import model.DeckHand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The CardManagerBenchmark class measures dealing a hand of five cards,
+ * including the deck resets that happen when the deck runs short.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardManagerBenchmark {
+
+  private CardManager cardManager;
+
+  /**
+   * Creates a card manager with a full deck before each trial.
+   */
+  @Setup
+  public void setUp() {
+    cardManager = new CardManager();
+  }
+
+  /**
+   * Deals a hand of five cards.
+   *
+   * @return the dealt hand
+   */
+  @Benchmark
+  public DeckHand drawCards() {
+    cardManager.drawCards(5);
+    return cardManager.getHand();
+  }
+}
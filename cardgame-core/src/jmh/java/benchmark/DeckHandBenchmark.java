@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import model.DeckHand;
+import model.DeckOfCards;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The DeckHandBenchmark class measures the evaluators of a hand of cards:
+ * the sum of the faces, the flush check, the queen of spades check and the hearts.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckHandBenchmark {
+
+  @Param({"5", "13"})
+  private int handSize;
+
+  private DeckHand hand;
+
+  /**
+   * Deals a random hand of the benchmarked size before each trial.
+   */
+  @Setup
+  public void setUp() {
+    DeckOfCards deck = new DeckOfCards();
+    hand = new DeckHand();
+    for (int i = 0; i < handSize; i++) {
+      hand.addCard(deck.drawCard());
+    }
+  }
+
+  /**
+   * Calculates the sum of the faces in the hand.
+   *
+   * @return the sum of the faces
+   */
+  @Benchmark
+  public int calculateSumOfCards() {
+    return hand.calculateSumOfCards();
+  }
+
+  /**
+   * Checks if the hand is a flush.
+   *
+   * @return true if the hand is a flush
+   */
+  @Benchmark
+  public boolean isFlush() {
+    return hand.isFlush();
+  }
+
+  /**
+   * Checks if the hand contains the queen of spades.
+   *
+   * @return true if the hand contains the queen of spades
+   */
+  @Benchmark
+  public boolean isSpadeAndQueen() {
+    return hand.isSpadeAndQueen();
+  }
+
+  /**
+   * Collects the hearts in the hand, the way the view consumes them.
+   *
+   * @return the hearts in the hand
+   */
+  @Benchmark
+  public List<String> getHeartCards() {
+    return hand.getHeartCards().toList();
+  }
+}
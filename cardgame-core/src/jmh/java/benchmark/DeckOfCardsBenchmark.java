@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import model.DeckOfCards;
+import model.PlayingCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The DeckOfCardsBenchmark class measures shuffling, drawing from and resetting a deck of cards.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckOfCardsBenchmark {
+
+  private DeckOfCards deck;
+
+  /**
+   * Creates a full deck of cards before each trial.
+   */
+  @Setup
+  public void setUp() {
+    deck = new DeckOfCards();
+  }
+
+  /**
+   * Shuffles a full deck of cards.
+   *
+   * @return the deck, so that the shuffle is not eliminated
+   */
+  @Benchmark
+  public DeckOfCards shuffle() {
+    deck.shuffle();
+    return deck;
+  }
+
+  /**
+   * Draws a card, resetting the deck whenever it runs out of cards.
+   * The cost of a reset is amortized over the 52 draws of a deck.
+   *
+   * @return the drawn card
+   */
+  @Benchmark
+  public PlayingCard drawCard() {
+    if (deck.getCardCount() == 0) {
+      deck.resetDeck();
+    }
+    return deck.drawCard();
+  }
+
+  /**
+   * Resets the deck to a full deck of 52 cards.
+   *
+   * @return the deck, so that the reset is not eliminated
+   */
+  @Benchmark
+  public DeckOfCards resetDeck() {
+    deck.resetDeck();
+    return deck;
+  }
+}
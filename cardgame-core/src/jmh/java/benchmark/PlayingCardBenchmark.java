@@ -0,0 +1,42 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import model.PlayingCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The PlayingCardBenchmark class measures the string form of a playing card.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayingCardBenchmark {
+
+  private int index;
+
+  /**
+   * Returns the string form of the cards of a deck, one card per invocation.
+   *
+   * @return the string form of the card
+   */
+  @Benchmark
+  public String getAsString() {
+    index = (index + 1) % 52;
+    return PlayingCard.fromIndex(index).getAsString();
+  }
+}
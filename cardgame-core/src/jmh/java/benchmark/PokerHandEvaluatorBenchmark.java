@@ -0,0 +1,68 @@
+package benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import model.CardMask;
+import model.PokerHandEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The PokerHandEvaluatorBenchmark class measures ranking random 5 and 7 card poker hands.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokerHandEvaluatorBenchmark {
+
+  private static final int HANDS = 1 << 12; // The number of precomputed random hands
+
+  @Param({"5", "7"})
+  private int handSize;
+
+  private long[] hands;
+  private int next;
+
+  /**
+   * Creates the random hands before each trial.
+   */
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    hands = new long[HANDS];
+    for (int i = 0; i < HANDS; i++) {
+      long mask = 0;
+      while (Long.bitCount(mask) < handSize) {
+        mask |= 1L << random.nextInt(CardMask.CARDS_PER_DECK);
+      }
+      hands[i] = mask;
+    }
+  }
+
+  /**
+   * Ranks the next random hand.
+   *
+   * @return the rank of the hand
+   */
+  @Benchmark
+  public int evaluate() {
+    next = (next + 1) & (HANDS - 1);
+    return PokerHandEvaluator.evaluate(hands[next]);
+  }
+}
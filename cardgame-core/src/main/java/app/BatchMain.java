@@ -0,0 +1,280 @@
+package app;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import metrics.MetricsRegistry;
+import model.CardManager;
+import model.CardMask;
+import model.DeckHand;
+import model.DeckOfCards;
+import model.HandEnumerator;
+import model.HandJournal;
+import model.HandSimulator;
+import model.HandStatistics;
+import model.PlayingCard;
+import server.CardGameServer;
+
+/**
+ * The BatchMain class is the headless entry point of the application. It deals, checks
+ * and simulates hands from the command line without starting JavaFX or loading any images,
+ * and writes the results to a file or to the standard output.
+ *
+ * <p>Usage:
+ * <pre>
+ *   deal      [--hands N] [--size K] [--decks D] [--seed S] [--out FILE] [--journal FILE]
+ *   simulate  [--hands N] [--size K] [--seed S] [--out FILE]
+ *   enumerate [--size K] [--out FILE]
+ *   serve     [--port P] [--decks D]
+ * </pre>
+ * Every command also accepts {@code --metrics FILE}, which writes a snapshot of the default
+ * {@link MetricsRegistry} to the file when the process ends.
+ * The deal command writes one line per hand with the cards, the sum, the number of hearts,
+ * the flush status and the queen of spades status, and can also record the hands in a
+ * {@link HandJournal}. The simulate and enumerate commands
+ * write the statistics of the hands. The serve command runs a {@link CardGameServer} on
+ * localhost until the process is stopped.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class BatchMain {
+
+  private static final String USAGE = """
+      Usage:
+        deal      [--hands N] [--size K] [--decks D] [--seed S] [--out FILE] [--journal FILE]
+        simulate  [--hands N] [--size K] [--seed S] [--out FILE]
+        enumerate [--size K] [--out FILE]
+        serve     [--port P] [--decks D]
+      Every command also accepts [--metrics FILE].""";
+
+  private long hands = 1; // The number of hands to deal or simulate
+  private int size = 5; // The number of cards in every hand
+  private int decks = 1; // The number of standard decks to deal from
+  private long seed = System.nanoTime(); // The seed of the deal or the simulation
+  private Path out; // The output file, or null for the standard output
+  private int port = 7000; // The port of the game server
+  private Path journal; // The journal the dealt hands are recorded in, or null
+  private Path metrics; // The file the metrics are written to when the process ends, or null
+
+  /**
+   * The main method of the BatchMain class which runs a batch command.
+   *
+   * @param args The command and its options
+   */
+  public static void main(String[] args) {
+    int status = execute(args);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  /*
+   * Runs a batch command and returns the exit status of the process: 0 if the command
+   * succeeded, 1 if the output could not be written and 2 if the arguments are invalid.
+   */
+  static int execute(String[] args) {
+    if (args.length == 0) {
+      System.err.println(USAGE);
+      return 2;
+    }
+    try {
+      BatchMain batch = new BatchMain();
+      batch.parseOptions(args);
+      batch.checkOptions(args[0]);
+      batch.writeMetricsOnExit();
+      batch.run(args[0]);
+      return 0;
+    } catch (IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+      System.err.println(USAGE);
+      return 2;
+    } catch (IOException e) {
+      System.err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  /*
+   * Parses the options that follow the command.
+   */
+  private void parseOptions(String[] args) {
+    for (int i = 1; i < args.length; i += 2) {
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Missing value for option " + args[i]);
+      }
+      String value = args[i + 1];
+      try {
+        switch (args[i]) {
+          case "--hands" -> hands = Long.parseLong(value);
+          case "--size" -> size = Integer.parseInt(value);
+          case "--decks" -> decks = Integer.parseInt(value);
+          case "--seed" -> seed = Long.parseLong(value);
+          case "--out" -> out = Path.of(value);
+          case "--port" -> port = Integer.parseInt(value);
+          case "--journal" -> journal = Path.of(value);
+          case "--metrics" -> metrics = Path.of(value);
+          default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid number for option " + args[i] + ": " + value);
+      }
+    }
+  }
+
+  /*
+   * Checks the values of the options, so that an invalid value is reported with the usage
+   * instead of failing in the middle of a command. A hand is dealt from all the decks,
+   * and is simulated and enumerated from one deck.
+   */
+  private void checkOptions(String command) {
+    if (hands < 0) {
+      throw new IllegalArgumentException("Parameter hands cannot be negative");
+    }
+    if (decks < 1) {
+      throw new IllegalArgumentException("Parameter decks must be at least 1");
+    }
+    long maxSize = command.equals("deal")
+        ? (long) decks * CardMask.CARDS_PER_DECK : CardMask.CARDS_PER_DECK;
+    if (size < 1 || size > maxSize) {
+      throw new IllegalArgumentException("Parameter size must be between 1 and " + maxSize);
+    }
+  }
+
+  /*
+   * Writes a snapshot of the metrics to the metrics file when the process ends, also when
+   * the game server is stopped.
+   */
+  private void writeMetricsOnExit() {
+    if (metrics == null) {
+      return;
+    }
+    Path file = metrics;
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      try (PrintWriter writer = new PrintWriter(
+          Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+        MetricsRegistry.getDefault().snapshot().writeTo(writer);
+      } catch (IOException e) {
+        System.err.println("Error: " + e.getMessage());
+      }
+    }, "metrics-writer"));
+  }
+
+  /*
+   * Runs a command and writes its output.
+   */
+  private void run(String command) throws IOException {
+    if (command.equals("serve")) {
+      serve();
+      return;
+    }
+    if (!command.equals("deal") && !command.equals("simulate") && !command.equals("enumerate")) {
+      throw new IllegalArgumentException("Unknown command " + command);
+    }
+    try (PrintWriter writer = new PrintWriter(openOutput())) {
+      switch (command) {
+        case "deal" -> deal(writer);
+        case "simulate" -> writeStatistics(writer, new HandSimulator().simulate(hands, size, seed));
+        default -> writeStatistics(writer, new HandEnumerator().enumerate(size));
+      }
+      if (writer.checkError()) {
+        throw new IOException("Error while writing output");
+      }
+    }
+  }
+
+  /*
+   * Runs the game server until the process is stopped.
+   */
+  private void serve() throws IOException {
+    CardGameServer server = new CardGameServer(port, () -> new CardManager(new DeckOfCards(decks)));
+    server.start();
+    System.err.println("Serving the card game on localhost port " + server.getPort());
+    try {
+      Thread.currentThread().join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      server.close();
+    }
+  }
+
+  /*
+   * Opens the output file, or the standard output if no output file is given.
+   */
+  private Writer openOutput() throws IOException {
+    if (out == null) {
+      return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+    }
+    return Files.newBufferedWriter(out, StandardCharsets.UTF_8);
+  }
+
+  /*
+   * Deals and checks hands, and writes one line per hand.
+   */
+  private void deal(PrintWriter writer) throws IOException {
+    CardManager cardManager = new CardManager(DeckOfCards.withSeed(decks, seed));
+    if (journal == null) {
+      deal(writer, cardManager);
+      return;
+    }
+    try (HandJournal handJournal = new HandJournal(journal)) {
+      cardManager.setJournal(handJournal);
+      deal(writer, cardManager);
+    }
+  }
+
+  /*
+   * Deals and checks hands with the card manager, and writes one line per hand.
+   */
+  private void deal(PrintWriter writer, CardManager cardManager) {
+    DeckHand hand = cardManager.getHand();
+    StringBuilder line = new StringBuilder();
+    writer.println("cards,sum,hearts,flush,queenOfSpades");
+    for (long i = 0; i < hands; i++) {
+      cardManager.drawCards(size);
+      line.setLength(0);
+      for (Iterator<PlayingCard> it = hand.getCardsOnHand(); it.hasNext(); ) {
+        line.append(it.next().getAsString()).append(it.hasNext() ? " " : "");
+      }
+      line.append(',').append(hand.calculateSumOfCards())
+          .append(',').append(hand.getHeartCount())
+          .append(',').append(hand.isFlush())
+          .append(',').append(hand.isSpadeAndQueen());
+      writer.println(line);
+    }
+  }
+
+  /*
+   * Writes the statistics of a simulation or enumeration.
+   */
+  private static void writeStatistics(PrintWriter writer, HandStatistics statistics) {
+    writer.printf(Locale.ROOT, "hands=%d%n", statistics.getHandCount());
+    writer.printf(Locale.ROOT, "handSize=%d%n", statistics.getHandSize());
+    writer.printf(Locale.ROOT, "flush=%d (%.8f)%n",
+        statistics.getFlushCount(), statistics.getFlushFrequency());
+    writer.printf(Locale.ROOT, "queenOfSpades=%d (%.8f)%n",
+        statistics.getQueenOfSpadesCount(), statistics.getQueenOfSpadesFrequency());
+    writer.printf(Locale.ROOT, "hearts=%d%n", statistics.getHeartCount());
+    writer.printf(Locale.ROOT, "averageSum=%.6f%n", statistics.getAverageSum());
+    writeHistogram(writer, "heartsHistogram", statistics.getHeartsHistogram());
+    writeHistogram(writer, "sumHistogram", statistics.getSumHistogram());
+  }
+
+  private static void writeHistogram(PrintWriter writer, String name, long[] histogram) {
+    writer.println(name + ":");
+    for (int i = 0; i < histogram.length; i++) {
+      if (histogram[i] != 0) {
+        writer.println(i + "," + histogram[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram class records how long an operation takes. The latencies are counted
+ * in 64 buckets by powers of two of nanoseconds, so recording a latency is a few additions
+ * without locking or allocation, and many threads can record at the same time.
+ *
+ * <p>An operation is timed with {@link #start()} and {@link Timing#stop()}, which also time an
+ * {@link OperationEvent} with {@code begin()} and {@code end()}, and commit it to a running
+ * Java Flight Recorder recording that has the event enabled and whose threshold it exceeds.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public final class LatencyHistogram {
+
+  static final int BUCKET_COUNT = Long.SIZE; // Bucket i counts the latencies below 2^i ns
+
+  private final String name; // The name of the operation
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+  private final LongAdder totalNanos = new LongAdder(); // The sum of all latencies
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0); // The largest latency
+
+  /**
+   * Creates an instance of a LatencyHistogram without any latencies.
+   *
+   * @param name the name of the operation
+   */
+  public LatencyHistogram(String name) {
+    this.name = name;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Returns the name of the operation.
+   *
+   * @return the name of the operation
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Starts timing an operation. The operation is recorded when {@link Timing#stop()} is called.
+   *
+   * @return the timing of the operation
+   */
+  public Timing start() {
+    return new Timing(this);
+  }
+
+  /**
+   * Records a latency. A negative latency is recorded as 0.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long latency = Math.max(nanos, 0);
+    buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(latency)].increment();
+    totalNanos.add(latency);
+    maxNanos.accumulate(latency);
+  }
+
+  /**
+   * Returns a copy of the latencies recorded so far. Latencies that are recorded while the
+   * snapshot is taken may be partly included.
+   *
+   * @return the snapshot of the histogram
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets[i].sum();
+    }
+    return new Snapshot(counts, totalNanos.sum(), maxNanos.get());
+  }
+
+  /**
+   * The Timing class is the timing of one operation, started by {@link LatencyHistogram#start()}.
+   * The timing is not thread-safe, and is stopped on the thread that started it.
+   */
+  public static final class Timing {
+
+    private final LatencyHistogram histogram; // The histogram the latency is recorded in
+    private final OperationEvent event = new OperationEvent(); // The event of the operation
+    private final long startNanos; // The value of System.nanoTime() when the operation started
+
+    private Timing(LatencyHistogram histogram) {
+      this.histogram = histogram;
+      event.begin();
+      startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the latency of the operation in the histogram, and commits the event of the
+     * operation if a recording has the event enabled.
+     */
+    public void stop() {
+      histogram.record(System.nanoTime() - startNanos);
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = histogram.name;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * The Snapshot record is a copy of the latencies of a histogram at one point in time.
+   *
+   * @param buckets the number of latencies below 2^i ns, and at least 2^(i-1) ns, by index i
+   * @param totalNanos the sum of all latencies in nanoseconds
+   * @param maxNanos the largest latency in nanoseconds
+   */
+  public record Snapshot(long[] buckets, long totalNanos, long maxNanos) {
+
+    /**
+     * Returns the number of latencies.
+     *
+     * @return the number of latencies
+     */
+    public long count() {
+      long count = 0;
+      for (long bucket : buckets) {
+        count += bucket;
+      }
+      return count;
+    }
+
+    /**
+     * Returns the mean latency, or 0 if there are no latencies.
+     *
+     * @return the mean latency in nanoseconds
+     */
+    public double meanNanos() {
+      long count = count();
+      return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns an upper bound of a percentile of the latencies: the end of the bucket that
+     * contains the percentile, but never more than the largest latency.
+     *
+     * @param percentile the percentile, between 0 and 100 (e.g. 99)
+     * @return the upper bound of the percentile in nanoseconds, or 0 if there are no latencies
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     */
+    public long percentileNanos(double percentile) {
+      if (!(percentile >= 0 && percentile <= 100)) {
+        throw new IllegalArgumentException("Parameter percentile must be between 0 and 100");
+      }
+      long rank = (long) Math.ceil(count() * percentile / 100);
+      long seen = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        seen += buckets[i];
+        if (seen >= rank && seen > 0) {
+          return i == 0 ? 0 : Math.min((1L << i) - 1, maxNanos);
+        }
+      }
+      return 0;
+    }
+  }
+}
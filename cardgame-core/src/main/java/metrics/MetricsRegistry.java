@@ -0,0 +1,68 @@
+package metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MetricsRegistry class holds the counters and the latency histograms of the card game
+ * by name, e.g. the number of cards drawn and the latency of a deal. The instrumented classes
+ * look up their metrics once and keep them in static fields, so counting is a single
+ * {@link LongAdder#increment()}, and timing is two calls of {@link System#nanoTime()} and
+ * a Java Flight Recorder event that is only committed when a recording enables it.
+ * The metrics are always on and are read with {@link #snapshot()}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public final class MetricsRegistry {
+
+  private static final MetricsRegistry DEFAULT = new MetricsRegistry(); // Used by the game
+
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the registry that the classes of the card game record their metrics in.
+   *
+   * @return the default registry
+   */
+  public static MetricsRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the counter with the given name, and creates it if it does not exist.
+   *
+   * @param name the name of the counter (e.g. deck.drawCard)
+   * @return the counter
+   */
+  public LongAdder counter(String name) {
+    return counters.computeIfAbsent(name, key -> new LongAdder());
+  }
+
+  /**
+   * Returns the latency histogram with the given name, and creates it if it does not exist.
+   *
+   * @param name the name of the timed operation (e.g. deck.shuffle)
+   * @return the latency histogram
+   */
+  public LatencyHistogram latency(String name) {
+    return latencies.computeIfAbsent(name, LatencyHistogram::new);
+  }
+
+  /**
+   * Returns a copy of all the counters and latency histograms, sorted by name.
+   *
+   * @return the snapshot of the metrics
+   */
+  public MetricsSnapshot snapshot() {
+    Map<String, Long> counterValues = new TreeMap<>();
+    counters.forEach((name, counter) -> counterValues.put(name, counter.sum()));
+    Map<String, LatencyHistogram.Snapshot> latencyValues = new TreeMap<>();
+    latencies.forEach((name, histogram) -> latencyValues.put(name, histogram.snapshot()));
+    return new MetricsSnapshot(counterValues, latencyValues);
+  }
+}
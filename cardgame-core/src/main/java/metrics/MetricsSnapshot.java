@@ -0,0 +1,51 @@
+package metrics;
+
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The MetricsSnapshot record is a copy of the metrics of a {@link MetricsRegistry} at one
+ * point in time. It is written as text with one line per metric, e.g.
+ * <pre>
+ *   counter deck.drawCard 5000
+ *   latency deck.shuffle count=10 mean=1.250us p50&lt;=1.023us p99&lt;=4.095us max=3.900us
+ * </pre>
+ *
+ * @param counters the values of the counters by name
+ * @param latencies the snapshots of the latency histograms by name
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public record MetricsSnapshot(Map<String, Long> counters,
+                              Map<String, LatencyHistogram.Snapshot> latencies) {
+
+  /**
+   * Creates a metrics snapshot with unmodifiable copies of the metrics, sorted by name.
+   *
+   * @throws NullPointerException if the counters or the latencies are null
+   */
+  public MetricsSnapshot {
+    counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+    latencies = Collections.unmodifiableMap(new TreeMap<>(latencies));
+  }
+
+  /**
+   * Writes the metrics with one line per counter and one line per latency histogram.
+   *
+   * @param writer the writer to write the metrics to
+   */
+  public void writeTo(PrintWriter writer) {
+    counters.forEach((name, value) -> writer.println("counter " + name + " " + value));
+    latencies.forEach((name, latency) -> writer.printf(Locale.ROOT,
+        "latency %s count=%d mean=%.3fus p50<=%.3fus p99<=%.3fus max=%.3fus%n",
+        name, latency.count(), latency.meanNanos() / 1000,
+        latency.percentileNanos(50) / 1000.0, latency.percentileNanos(99) / 1000.0,
+        latency.maxNanos() / 1000.0));
+    writer.flush();
+  }
+}
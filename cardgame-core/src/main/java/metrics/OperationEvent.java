@@ -0,0 +1,30 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The OperationEvent class is the Java Flight Recorder event of a timed operation of the
+ * card game, e.g. a shuffle or a deal. The duration of the event is the duration of the
+ * operation, as the event is begun and ended by {@link LatencyHistogram.Timing}. The event
+ * is only committed when a recording has the event enabled, and costs nothing more than
+ * a check of a flag otherwise.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+@Name("cardgame.Operation")
+@Label("Card Game Operation")
+@Category("Card Game")
+@Description("A timed operation of the card game, e.g. a shuffle or a deal")
+@StackTrace(false)
+final class OperationEvent extends Event {
+
+  @Label("Operation")
+  String operation; // The name of the latency histogram of the operation
+}
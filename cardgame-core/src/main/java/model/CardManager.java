@@ -0,0 +1,252 @@
+package model;
+
+import java.util.stream.Stream;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * The CardManager class represents a manager for a deck of playing cards and a hand of playing
+ * cards. The class is implemented using the DeckOfCards and model.DeckHand classes, and it enables
+ * the two classes to interact with each other. The class provides methods for dealing a hand of
+ * playing cards, shuffling the deck of playing cards, calculating the sum of the face values of the
+ * playing cards in the hand, checking if the hand contains a heart, checking if the hand contains a
+ * spade and a queen, and checking if the hand contains a flush.
+
+ * @author Johannes Nupen Theigen
+ * @version 0.0.5
+ * @since 03.12.2025
+ */
+public class CardManager {
+
+  private static final LatencyHistogram DECK_RESET_LATENCY =
+      MetricsRegistry.getDefault().latency("cardManager.deckReset"); // Times every deck reset
+
+  private final DeckOfCards deck;
+  private final DeckHand hand;
+  private HandJournal journal; // Records the dealt hands, or null
+
+  /**
+   * Initializes a new model.CardManager object with a deck of playing cards and an empty hand of playing
+   * cards.
+   */
+  public CardManager() {
+    this(new DeckOfCards());
+  }
+
+  /**
+   * Initializes a new model.CardManager object with the given deck of playing cards and an
+   * empty hand of playing cards.
+   *
+   * @param deck the deck of playing cards to deal from
+   * @throws NullPointerException if the deck is null
+   */
+  public CardManager(DeckOfCards deck) {
+    if (deck == null) {
+      throw new NullPointerException("Deck cannot be null");
+    }
+    this.deck = deck; // The deck of playing cards
+    hand = new DeckHand(); // The hand of playing cards
+  }
+
+  /**
+   * Replays a game dealt by a CardManager with a seeded deck (see
+   * {@link DeckOfCards#withSeed(int, long)}), where every hand was dealt with
+   * {@link #drawCards(int)}. The game is given by the seed of the deck and the number of
+   * cards drawn from it, so a game can be logged in 16 bytes. The returned card manager
+   * has the same deck and the same hand as the game had after its last hand.
+   *
+   * @param deckCount the number of standard decks of the game
+   * @param handSize the number of cards in every hand of the game
+   * @param seed the seed of the deck of the game
+   * @param drawCount the number of cards drawn in the game
+   * @return a card manager in the state of the game
+   * @throws IllegalArgumentException if the number of decks is less than 1, if the hand size
+   *     is not between 1 and the number of cards in the deck, or if the draw count is negative
+   *     or not a whole number of hands
+   */
+  public static CardManager replay(int deckCount, int handSize, long seed, long drawCount) {
+    if (deckCount < 1) {
+      throw new IllegalArgumentException("Parameter deckCount must be at least 1");
+    }
+    if (handSize < 1 || handSize > deckCount * CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter handSize must be between 1 and the deck size");
+    }
+    if (drawCount < 0 || drawCount % handSize != 0) {
+      throw new IllegalArgumentException("Parameter drawCount must be a whole number of hands");
+    }
+    CardManager cardManager = new CardManager(DeckOfCards.withSeed(deckCount, seed));
+    for (long hand = drawCount / handSize; hand > 0; hand--) {
+      cardManager.drawCards(handSize);
+    }
+    return cardManager;
+  }
+
+  /**
+   * Draws playing cards from the deck and adds them to the hand. The number of playing cards to
+
+   * @param n the number of playing cards to draw (e.g. 5)
+   * @throws IllegalArgumentException if there are not enough playing cards in the deck
+   */
+  public void drawCards(int n) {
+
+    if (deck.getCardCount() < n) {
+      LatencyHistogram.Timing timing = DECK_RESET_LATENCY.start();
+      deck.resetDeck();
+      timing.stop();
+    }
+    hand.clearHand();
+    for (int i = 0; i < n; i++) {
+      hand.addCard(deck.drawCard());
+    }
+    if (journal != null) {
+      journal.record(hand);
+    }
+  }
+
+  /**
+   * Sets the journal that every hand dealt by {@link #drawCards(int)} is recorded in,
+   * e.g. as an audit log of the game. The card manager does not close the journal.
+   *
+   * @param journal the journal to record the hands in, or null to stop recording
+   */
+  public void setJournal(HandJournal journal) {
+    this.journal = journal;
+  }
+
+  /**
+   * Deals a batch of hands and writes the dealt cards to the given array, encoded as card
+   * indexes (see {@link CardMask}). The cards of hand i are written to the positions
+   * {@code i * handSize} to {@code (i + 1) * handSize - 1}. As in {@link #drawCards(int)},
+   * the deck is reset before a hand if there are not enough cards left in the deck.
+   * The hand of the card manager is not changed.
+   *
+   * @param handCount the number of hands to deal
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @param cards the array the card indexes are written to
+   * @throws IllegalArgumentException if the hand count is negative, if the hand size is
+   *     not between 1 and 52, or if the array is too small for all the cards
+   */
+  public void dealHands(int handCount, int handSize, int[] cards) {
+    checkBatch(handCount, handSize, (long) handCount * handSize, cards.length);
+    int position = 0;
+    for (int i = 0; i < handCount; i++) {
+      if (deck.getCardCount() < handSize) {
+        deck.resetDeck();
+      }
+      for (int j = 0; j < handSize; j++) {
+        cards[position++] = deck.drawCard().getIndex();
+      }
+    }
+  }
+
+  /**
+   * Deals a batch of hands and writes every hand to the given array as a card mask
+   * (see {@link CardMask}). As in {@link #drawCards(int)}, the deck is reset before a hand
+   * if there are not enough cards left in the deck. The hand of the card manager is not changed.
+   *
+   * <p>A card mask holds every card only once, so this method only deals from a single deck.
+   * A hand dealt from a shoe of several decks can hold two copies of the same card, so hands
+   * from a shoe are dealt with {@link #dealHands(int, int, int[])} instead.
+   *
+   * @param handCount the number of hands to deal
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @param hands the array the card masks of the hands are written to
+   * @throws IllegalArgumentException if the hand count is negative, if the hand size is
+   *     not between 1 and 52, or if the array is shorter than the hand count
+   * @throws IllegalStateException if the deck is a shoe of more than one deck
+   */
+  public void dealHands(int handCount, int handSize, long[] hands) {
+    checkBatch(handCount, handSize, handCount, hands.length);
+    if (deck.getDeckCount() > 1) {
+      throw new IllegalStateException(
+          "Hands from a shoe of more than one deck cannot be dealt as card masks");
+    }
+    for (int i = 0; i < handCount; i++) {
+      if (deck.getCardCount() < handSize) {
+        deck.resetDeck();
+      }
+      long mask = 0;
+      for (int j = 0; j < handSize; j++) {
+        mask |= deck.drawCard().getMask();
+      }
+      hands[i] = mask;
+    }
+  }
+
+  /*
+   * Checks the parameters of a batch of hands and that the array has the required length.
+   */
+  private static void checkBatch(int handCount, int handSize, long required, int length) {
+    if (handSize < 1 || handSize > CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter handSize must be a number between 1 to 52");
+    }
+    if (handCount < 0) {
+      throw new IllegalArgumentException("Parameter handCount cannot be negative");
+    }
+    if (required > length) {
+      throw new IllegalArgumentException("Array is too small for " + handCount + " hands");
+    }
+  }
+
+  /**
+
+   * Calculates the sum of the face values of the playing cards in the hand. (e.g. H5, S12 = 17)
+
+   * @return the sum of the face values of the playing cards in the hand
+   */
+  public int calculateSumOfCardsOnHand() {
+    return hand.calculateSumOfCards();
+  }
+
+  /**
+   * Checks if the hand contains a spade card with face value 12 (Queen).
+
+   * @return true if the hand contains a spade card with face value 12 (Queen), false otherwise
+   */
+  public boolean checkIfHandContainsSpadeAndQueen() {
+    return hand.isSpadeAndQueen();
+  }
+
+  /**
+   * Checks if the hand contains a heart. A heart is a playing card with the suit 'H'.
+   *
+   * @return a list of the hearts in the hand
+   */
+  public Stream<String> checkIfHandContainsHearts() {
+    return hand.getHeartCards();
+  }
+
+  /**
+   * Checks if the hand contains a flush. A flush is when all the playing cards in the hand
+   * have the same suit (e.g. H5, H12, H3, H7, H9).
+
+   * @return true if the hand contains a flush, false otherwise
+   */
+  public boolean checkIfHandContainsFlush() {
+    return hand.isFlush();
+  }
+
+  /**
+   * Checks the hand and returns the sum of the face values, the hearts, the flush status and
+   * the queen of spades status of the hand in one result, see {@link DeckHand#analyze()}.
+   *
+   * @return the analysis of the hand
+   */
+  public HandAnalysis analyzeHand() {
+    return hand.analyze();
+  }
+
+  public DeckHand getHand() {
+    return hand;
+  }
+
+  /**
+   * Returns the deck of playing cards the hands are dealt from, e.g. to log the seed and
+   * the draw count of the game.
+   *
+   * @return the deck of playing cards
+   */
+  public DeckOfCards getDeck() {
+    return deck;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package model;
+
+/**
+ * The CardMask class contains the compact encoding of playing cards used by the model.
+ * Every card is encoded as an index between 0 and 51, where the index is
+ * {@code suit * 13 + (face - 1)} and the suits are ordered Spades, Hearts, Diamonds and Clubs.
+ * A set of distinct cards (e.g. a hand or a deck) is encoded as a 64-bit mask where bit
+ * {@code index} is set when the card is part of the set.
+ *
+ * <p>The evaluators in this class answer the same questions as {@link DeckHand}
+ * (sum, hearts, flush and queen of spades) using only mask and popcount operations.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public final class CardMask {
+
+  public static final int FACES_PER_SUIT = 13; // Ace (1) to King (13)
+  public static final int CARDS_PER_DECK = 52; // 4 suits with 13 faces each
+
+  public static final long SUIT_BITS = 0x1FFFL; // The 13 bits of a single suit
+  public static final long SPADES = SUIT_BITS;
+  public static final long HEARTS = SUIT_BITS << FACES_PER_SUIT;
+  public static final long DIAMONDS = SUIT_BITS << (2 * FACES_PER_SUIT);
+  public static final long CLUBS = SUIT_BITS << (3 * FACES_PER_SUIT);
+  public static final long FULL_DECK = (1L << CARDS_PER_DECK) - 1;
+  public static final long QUEEN_OF_SPADES = 1L << 11;
+
+  private static final char[] SUITS = {'S', 'H', 'D', 'C'};
+
+  /*
+   * FACE_BITS[k] contains every card where bit k of (face - 1) is set. The sum of the
+   * faces in a mask can then be calculated with one popcount per bit of the face value.
+   */
+  private static final long[] FACE_BITS = new long[4];
+
+  static {
+    for (int index = 0; index < CARDS_PER_DECK; index++) {
+      int rank = index % FACES_PER_SUIT;
+      for (int k = 0; k < FACE_BITS.length; k++) {
+        if ((rank & (1 << k)) != 0) {
+          FACE_BITS[k] |= 1L << index;
+        }
+      }
+    }
+  }
+
+  private CardMask() {
+    // Utility class
+  }
+
+  /**
+   * Returns the position of a suit in the encoding, or -1 if the suit is not valid.
+   *
+   * @param suit the suit of the card, 'S', 'H', 'D' or 'C'
+   * @return the position of the suit between 0 and 3, or -1 if the suit is not valid
+   */
+  public static int suitOrdinal(char suit) {
+    return switch (suit) {
+      case 'S' -> 0;
+      case 'H' -> 1;
+      case 'D' -> 2;
+      case 'C' -> 3;
+      default -> -1;
+    };
+  }
+
+  /**
+   * Returns the index of a card with the given suit and face.
+   *
+   * @param suit the suit of the card, 'S', 'H', 'D' or 'C'
+   * @param face the face value of the card, between 1 and 13
+   * @return the index of the card between 0 and 51
+   * @throws IllegalArgumentException if suit or face have invalid values
+   */
+  public static int indexOf(char suit, int face) {
+    int ordinal = suitOrdinal(suit);
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("Parameter suit must be one of H, D, C or S");
+    }
+    if (face < 1 || face > FACES_PER_SUIT) {
+      throw new IllegalArgumentException("Parameter face must be a number between 1 to 13");
+    }
+    return ordinal * FACES_PER_SUIT + face - 1;
+  }
+
+  /**
+   * Returns the suit of the card with the given index.
+   *
+   * @param index the index of the card, between 0 and 51
+   * @return the suit of the card
+   */
+  public static char suitOf(int index) {
+    return SUITS[index / FACES_PER_SUIT];
+  }
+
+  /**
+   * Returns the face value of the card with the given index.
+   *
+   * @param index the index of the card, between 0 and 51
+   * @return the face value of the card, between 1 and 13
+   */
+  public static int faceOf(int index) {
+    return index % FACES_PER_SUIT + 1;
+  }
+
+  /**
+   * Returns the number of cards in the mask.
+   *
+   * @param mask the mask of cards
+   * @return the number of cards in the mask
+   */
+  public static int cardCount(long mask) {
+    return Long.bitCount(mask);
+  }
+
+  /**
+   * Calculates the sum of the face values of the cards in the mask.
+   *
+   * @param mask the mask of cards
+   * @return the sum of the face values of the cards in the mask
+   */
+  public static int sumOfFaces(long mask) {
+    int sum = Long.bitCount(mask); // The "+ 1" of every face value
+    for (int k = 0; k < FACE_BITS.length; k++) {
+      sum += Long.bitCount(mask & FACE_BITS[k]) << k;
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the number of hearts in the mask.
+   *
+   * @param mask the mask of cards
+   * @return the number of hearts in the mask
+   */
+  public static int heartCount(long mask) {
+    return Long.bitCount(mask & HEARTS);
+  }
+
+  /**
+   * Checks if the mask contains the queen of spades.
+   *
+   * @param mask the mask of cards
+   * @return true if the mask contains the queen of spades, false otherwise
+   */
+  public static boolean containsQueenOfSpades(long mask) {
+    return (mask & QUEEN_OF_SPADES) != 0;
+  }
+
+  /**
+   * Checks if all the cards in a non-empty mask have the same suit.
+   *
+   * @param mask the mask of cards
+   * @return true if the mask is non-empty and every card has the same suit, false otherwise
+   */
+  public static boolean isSingleSuit(long mask) {
+    return mask != 0
+        && ((mask & ~SPADES) == 0 || (mask & ~HEARTS) == 0
+        || (mask & ~DIAMONDS) == 0 || (mask & ~CLUBS) == 0);
+  }
+
+  /**
+   * Checks if the mask is a flush, which is five or more cards of the same suit.
+   *
+   * @param mask the mask of cards
+   * @return true if the mask contains at least five cards and all of them have the same suit
+   */
+  public static boolean isFlush(long mask) {
+    return Long.bitCount(mask) >= 5 && isSingleSuit(mask);
+  }
+}
@@ -0,0 +1,262 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import metrics.MetricsRegistry;
+
+/**
+ * The model.DeckHand class represents a hand of playing cards.
+ * The class is implemented using the List and
+ * ArrayList libraries. Next to the list the hand keeps a card mask
+ * (see {@link CardMask}) which the evaluators of the hand operate on.
+ *
+ * <p>The statistics of the hand (the sum of the faces, the number of cards of every suit and
+ * the queen of spades status) are updated when a card is added and when the hand is cleared,
+ * so the queries of the hand run in constant time, however many cards the hand has.
+ * The calls of every evaluator are counted in the default {@link MetricsRegistry}.
+ * The evaluators take a few nanoseconds, so they are counted but not timed.
+
+ * @author Johannes Nupen Theigen
+ * @version 0.0.6
+ * @since 03.12.2025
+ */
+public class DeckHand {
+
+  private static final LongAdder ANALYZE_CALLS = counter("hand.analyze");
+  private static final LongAdder SUM_CALLS = counter("hand.calculateSumOfCards");
+  private static final LongAdder HEART_CARDS_CALLS = counter("hand.getHeartCards");
+  private static final LongAdder HEART_COUNT_CALLS = counter("hand.getHeartCount");
+  private static final LongAdder SUIT_COUNT_CALLS = counter("hand.getSuitCount");
+  private static final LongAdder QUEEN_OF_SPADES_CALLS = counter("hand.isSpadeAndQueen");
+  private static final LongAdder FLUSH_CALLS = counter("hand.isFlush");
+  private static final LongAdder POKER_CALLS = counter("hand.evaluatePokerHand");
+
+  private final List<PlayingCard> hand; // The hand of playing cards
+  private long cardMask; // The cards of the hand encoded as a card mask
+  private final int[] suitCounts = new int[4]; // The number of cards of every suit, in S,H,D,C
+  private int sum; // The sum of the faces of the cards
+  private boolean queenOfSpades; // True if the hand contains the queen of spades
+  private HandAnalysis analysis; // The analysis of the hand, or null if the hand has changed
+
+  /**
+   * Creates an instance of a model.DeckHand object with an empty hand of playing cards.
+   */
+  public DeckHand() {
+    hand = new ArrayList<>();
+  }
+
+  /*
+   * Returns the counter of the calls of an evaluator in the default metrics registry.
+   */
+  private static LongAdder counter(String name) {
+    return MetricsRegistry.getDefault().counter(name);
+  }
+
+  /**
+   * Adds a playing card to the hand. (e.g. H5)
+
+   * @param card the playing card to add to the hand
+   * @throws NullPointerException if the playing card is null
+   */
+  public void addCard(PlayingCard card) {
+    if (card == null) {
+      throw new NullPointerException("Playing card cannot be null");
+    }
+    hand.add(card);
+    cardMask |= card.getMask();
+    suitCounts[card.getIndex() / CardMask.FACES_PER_SUIT]++;
+    sum += card.getFace();
+    queenOfSpades |= card.getMask() == CardMask.QUEEN_OF_SPADES;
+    analysis = null;
+  }
+
+  /**
+   * Removes all playing cards from the hand.
+   */
+  public void clearHand() {
+    hand.clear();
+    cardMask = 0;
+    Arrays.fill(suitCounts, 0);
+    sum = 0;
+    queenOfSpades = false;
+    analysis = null;
+  }
+
+  /**
+   * Checks the hand and returns the sum of the face values, the hearts, the flush status
+   * and the queen of spades status in one immutable result. The result is kept until the
+   * hand changes, so checking the same hand again returns the same result.
+   *
+   * @return the analysis of the hand
+   */
+  public HandAnalysis analyze() {
+    if (analysis == null) {
+      analysis = new HandAnalysis(sum, heartCards().toList(), hasFlush(), queenOfSpades);
+    }
+    ANALYZE_CALLS.increment();
+    return analysis;
+  }
+
+  /**
+   * Returns the playing cards in the hand encoded as a card mask, see {@link CardMask}.
+   * A card that is added to the hand more than once is only present once in the mask.
+
+   * @return the card mask of the hand
+   */
+  public long getCardMask() {
+    return cardMask;
+  }
+
+  /**
+   * Returns the number of playing cards in the hand.
+   *
+   * @return the number of playing cards in the hand
+   */
+  public int getCardCount() {
+    return hand.size();
+  }
+
+  /*
+   * Checks if every card in the hand is present in the card mask,
+   * which is the case unless the same card has been added more than once.
+   */
+  private boolean hasDistinctCards() {
+    return Long.bitCount(cardMask) == hand.size();
+  }
+
+  /**
+   * Calculates the sum of the face values of the playing cards in the hand.
+
+   * @return the sum of the face values of the playing cards in the hand
+   */
+  public int calculateSumOfCards() {
+    SUM_CALLS.increment();
+    return sum;
+  }
+
+  /**
+   * Checks if the hand contains any playing cards.
+
+   * @return true if the hand contains playing cards, false otherwise
+   */
+  public boolean hasCards() {
+    return !hand.isEmpty();
+  }
+
+  /**
+   * Returns a copy of the playing cards in the hand that are hearts if the hand contains any hearts.
+   * The hearts are returned in the order they were added to the hand.
+   *
+   * @return a list of the playing cards in the hand that are hearts
+   */
+  public Stream<String> getHeartCards() {
+    HEART_CARDS_CALLS.increment();
+    return heartCards();
+  }
+
+  /*
+   * Returns the playing cards in the hand that are hearts in the order they were added,
+   * without counting the call.
+   */
+  private Stream<String> heartCards() {
+    if (suitCounts[1] == 0) {
+      return Stream.empty();
+    }
+    return hand.stream().filter(card -> card.getSuit() == 'H').map(PlayingCard::getAsString);
+  }
+
+  /**
+   * Returns the number of playing cards in the hand that are hearts.
+   *
+   * @return the number of hearts in the hand
+   */
+  public int getHeartCount() {
+    HEART_COUNT_CALLS.increment();
+    return suitCounts[1];
+  }
+
+  /**
+   * Returns the number of playing cards in the hand with the given suit.
+   *
+   * @param suit the suit of the playing cards to count ('S', 'H', 'D' or 'C')
+   * @return the number of playing cards in the hand with the suit
+   * @throws IllegalArgumentException if the suit is not valid
+   */
+  public int getSuitCount(char suit) {
+    int ordinal = CardMask.suitOrdinal(suit);
+    if (ordinal < 0) {
+      throw new IllegalArgumentException("Parameter suit must be one of H, D, C or S");
+    }
+    SUIT_COUNT_CALLS.increment();
+    return suitCounts[ordinal];
+  }
+
+  /**
+   * Returns an iterator over the playing cards in the hand to ensure
+   * that the playing cards cannot be modified.
+
+   * @return an iterator over the playing cards in the hand
+   */
+  public Iterator<PlayingCard> getCardsOnHand() {
+    return hand.iterator();
+  }
+
+  /**
+   * Checks if the hand contains a playing card with spades as the suit and a face value of 12.
+
+   * @return true if the hand contains a playing card
+   *     with spades as the suit and a face value of 12, false otherwise
+   */
+  public boolean isSpadeAndQueen() {
+    QUEEN_OF_SPADES_CALLS.increment();
+    return queenOfSpades;
+  }
+
+  /**
+   * Checks if the hand contains cards with the same suit. (e.g. all hearts)
+
+   * @return true if the hand contains cards with the same suit, false otherwise
+   */
+  public boolean isFlush() {
+    FLUSH_CALLS.increment();
+    return hasFlush();
+  }
+
+  /*
+   * Checks if the hand is a flush, without counting the call.
+   */
+  private boolean hasFlush() {
+    int size = hand.size();
+    return size >= 5 && (suitCounts[0] == size || suitCounts[1] == size
+        || suitCounts[2] == size || suitCounts[3] == size);
+  }
+
+  /**
+   * Returns the poker rank of the hand, see {@link PokerHandEvaluator}. For a hand of
+   * 6 or 7 cards the rank of the best 5 cards is returned. A higher rank is a stronger hand.
+
+   * @return the poker rank of the hand
+   * @throws IllegalStateException if the hand does not have 5 to 7 different cards
+   */
+  public int evaluatePokerHand() {
+    if (hand.size() < 5 || hand.size() > 7 || !hasDistinctCards()) {
+      throw new IllegalStateException("Hand must have 5 to 7 different cards");
+    }
+    POKER_CALLS.increment();
+    return PokerHandEvaluator.evaluate(cardMask);
+  }
+
+  /**
+   * Returns the poker category of the hand (e.g. a full house).
+
+   * @return the poker category of the hand
+   * @throws IllegalStateException if the hand does not have 5 to 7 different cards
+   */
+  public PokerHandCategory getPokerHandCategory() {
+    return PokerHandEvaluator.categoryOf(evaluatePokerHand());
+  }
+}
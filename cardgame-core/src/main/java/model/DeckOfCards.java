@@ -0,0 +1,317 @@
+package model;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * The DeckOfCards class represents a deck of playing Cards. The deck is a standard deck of 52
+ * playing Cards, with 4 suits and 13 faces, or a shoe of several standard decks shuffled together.
+ *
+ * <p>The deck does not store a PlayingCard object per card. It stores the number of remaining
+ * copies of each of the 52 cards, and the remaining cards as card indexes (see
+ * {@link CardMask}) in a byte array, one byte per card. A random card is drawn in constant
+ * time by replacing it with the last remaining card, and the deck is reset by copying the
+ * indexes of the full shoe back into the array.
+ *
+ * <p>The shuffles and draws of a deck use one random generator. Unless a random generator
+ * is given, the deck uses an L64X128MixRandom generator created from a seed, so the cards
+ * drawn from the deck are given by the seed and the number of cards drawn (see
+ * {@link #getSeed()} and {@link #getDrawCount()}). A game can then be replayed from the seed
+ * and the draw count, as long as the deck has not been shuffled or set.
+ *
+ * <p>The shuffles are timed and the drawn cards are counted in the default
+ * {@link MetricsRegistry}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.9
+ * @since 03.12.2025
+ */
+public class DeckOfCards {
+
+  private static final RandomGeneratorFactory<RandomGenerator> GENERATORS =
+      RandomGeneratorFactory.of("L64X128MixRandom"); // Creates the seeded random generators
+  private static final byte[] ORDERED_DECK = new byte[CardMask.CARDS_PER_DECK];
+  private static final LatencyHistogram SHUFFLE_LATENCY =
+      MetricsRegistry.getDefault().latency("deck.shuffle"); // Times every shuffle
+  private static final LongAdder DRAWN_CARDS =
+      MetricsRegistry.getDefault().counter("deck.drawCard"); // Counts every drawn card
+
+  static {
+    for (int index = 0; index < ORDERED_DECK.length; index++) {
+      ORDERED_DECK[index] = (byte) index;
+    }
+  }
+
+  private final int deckCount; // The number of standard decks in the shoe
+  private final int[] remaining = new int[CardMask.CARDS_PER_DECK]; // Copies left of every card
+  private byte[] cards; // The indexes of the remaining cards, null if the deck is set to null
+  private int size; // The number of remaining cards
+  private final RandomGenerator random; // Shuffles the deck and draws the cards
+  private final OptionalLong seed; // The seed of the random generator, if it is known
+  private long drawCount; // The number of cards drawn since the deck was created
+
+  /**
+   * Initializes a new model.DeckOfCards object with a standard deck of
+   * 52 playing Cards (4 suits and 13 faces), and a random seed.
+   * The Cards are generated using the resetDeck method.
+   */
+  public DeckOfCards() {
+    this(1);
+  }
+
+  /**
+   * Initializes a new model.DeckOfCards object with a standard deck of
+   * 52 playing Cards that draws its cards with the given random generator.
+   * A deck is not thread-safe, so every thread should use its own deck
+   * and random generator (e.g. one split from a SplittableRandom).
+   *
+   * @param random the random generator used to draw cards
+   * @throws NullPointerException if the random generator is null
+   */
+  public DeckOfCards(RandomGenerator random) {
+    this(1, random);
+  }
+
+  /**
+   * Initializes a new model.DeckOfCards object with a shoe of the given number of
+   * standard decks (e.g. 6 or 8 decks for table games).
+   *
+   * @param deckCount the number of standard decks in the shoe
+   * @throws IllegalArgumentException if the number of decks is less than 1
+   */
+  public DeckOfCards(int deckCount) {
+    this(deckCount, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Initializes a new model.DeckOfCards object with a shoe of the given number of
+   * standard decks that draws its cards with the given random generator.
+   *
+   * @param deckCount the number of standard decks in the shoe
+   * @param random the random generator used to draw cards
+   * @throws IllegalArgumentException if the number of decks is less than 1
+   * @throws NullPointerException if the random generator is null
+   */
+  public DeckOfCards(int deckCount, RandomGenerator random) {
+    this(deckCount, random, OptionalLong.empty());
+  }
+
+  /*
+   * Initializes a deck with the given random generator and the seed of the generator.
+   */
+  private DeckOfCards(int deckCount, RandomGenerator random, OptionalLong seed) {
+    if (deckCount < 1) {
+      throw new IllegalArgumentException("Parameter deckCount must be at least 1");
+    }
+    if (random == null) {
+      throw new NullPointerException("Random generator cannot be null");
+    }
+    this.deckCount = deckCount;
+    this.random = random;
+    this.seed = seed;
+    resetDeck(); // Generates the standard decks of 52 playing Cards
+  }
+
+  /*
+   * Initializes a deck with a random generator created from the given seed.
+   */
+  private DeckOfCards(int deckCount, long seed) {
+    this(deckCount, GENERATORS.create(seed), OptionalLong.of(seed));
+  }
+
+  /**
+   * Creates a standard deck of 52 playing Cards that draws its cards with a random generator
+   * created from the given seed. Two decks with the same seed draw the same cards.
+   *
+   * @param seed the seed of the random generator
+   * @return a new deck of playing Cards
+   */
+  public static DeckOfCards withSeed(long seed) {
+    return new DeckOfCards(1, seed);
+  }
+
+  /**
+   * Creates a shoe of the given number of standard decks that draws its cards with a random
+   * generator created from the given seed. Two shoes with the same seed draw the same cards.
+   *
+   * @param deckCount the number of standard decks in the shoe
+   * @param seed the seed of the random generator
+   * @return a new deck of playing Cards
+   * @throws IllegalArgumentException if the number of decks is less than 1
+   */
+  public static DeckOfCards withSeed(int deckCount, long seed) {
+    return new DeckOfCards(deckCount, seed);
+  }
+
+  /**
+   * Sets the deck of playing Cards to the specified list of playing Cards.
+   * Primarily used for testing purposes to set the state of
+   * deck to a specific state for testing different scenarios. (e.g. null cases).
+
+   * @param cards the list of playing Cards to set the deck to
+   */
+  public void setDeck(List<PlayingCard> cards) {
+    Arrays.fill(remaining, 0);
+    if (cards == null) {
+      this.cards = null;
+      size = 0;
+      return;
+    }
+    this.cards = new byte[Math.max(cards.size(), deckCount * CardMask.CARDS_PER_DECK)];
+    size = 0;
+    for (PlayingCard card : cards) {
+      this.cards[size++] = (byte) card.getIndex();
+      remaining[card.getIndex()]++;
+    }
+  }
+
+  /**
+   * Shuffles the deck of playing cards.
+   *
+   * @throws NullPointerException if the deck is null.
+   * @throws IllegalStateException if the deck is null or empty.
+   */
+  public void shuffle() {
+    if (cards == null) {
+      throw new NullPointerException("Deck is null");
+    } else if (size == 0) {
+      throw new IllegalStateException("Deck is empty");
+    } else {
+      LatencyHistogram.Timing timing = SHUFFLE_LATENCY.start();
+      for (int i = size - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        byte card = cards[i];
+        cards[i] = cards[j];
+        cards[j] = card;
+      }
+      timing.stop();
+    }
+  }
+
+  /**
+   * Draws a random card from the deck. The card is removed from the deck
+   * and returned to the caller. The drawn card is replaced by the last card
+   * of the deck, so a draw does not shift the remaining cards and runs in
+   * constant time. Every remaining card is still equally likely to be drawn.
+
+   * @return a random playing Card from the deck, or null if the deck is empty
+   * @throws IllegalStateException if the deck is empty
+   */
+  public PlayingCard drawCard() {
+    if (getCardCount() == 0) {
+      throw new IllegalStateException("Deck is empty");
+    }
+    int position = random.nextInt(size);
+    int index = cards[position];
+    cards[position] = cards[--size];
+    remaining[index]--;
+    drawCount++;
+    DRAWN_CARDS.increment();
+    return PlayingCard.fromIndex(index);
+  }
+
+  /**
+   * Returns the number of playing Cards in the deck.
+
+   * @return the number of playing Cards in the deck
+   */
+  public int getCardCount() {
+    requireDeck();
+    return size;
+  }
+
+  /**
+   * Returns the number of remaining copies of a playing card in the deck.
+   * In a standard deck this is either 0 or 1.
+   *
+   * @param card the playing card to count
+   * @return the number of remaining copies of the playing card
+   */
+  public int getRemainingCount(PlayingCard card) {
+    return remaining[card.getIndex()];
+  }
+
+  /**
+   * Returns the number of standard decks in the deck (1 unless the deck is a shoe).
+   *
+   * @return the number of standard decks
+   */
+  public int getDeckCount() {
+    return deckCount;
+  }
+
+  /**
+   * Returns the seed of the random generator of the deck. The seed is empty if the deck
+   * was created with a random generator of its own.
+   *
+   * @return the seed of the random generator, if it is known
+   */
+  public OptionalLong getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the number of playing Cards drawn from the deck since it was created.
+   * Resetting the deck does not change the draw count.
+   *
+   * @return the number of playing Cards drawn
+   */
+  public long getDrawCount() {
+    return drawCount;
+  }
+
+  /**
+   * Returns a copy of the list of playing Cards in the deck.
+   * The method is primarily used for testing purposes.
+
+   * @return a copy of the list of playing Cards in the deck
+   */
+  public Stream<PlayingCard> getCards() {
+    requireDeck();
+    byte[] snapshot = Arrays.copyOf(cards, size);
+    return IntStream.range(0, snapshot.length).mapToObj(i -> PlayingCard.fromIndex(snapshot[i]));
+  }
+
+  /**
+   * Clears the deck of playing Cards.
+   * Primarily used for testing purposes. (e.g. testing
+   * scenarios where the deck is empty)
+   */
+  public void clearDeck() {
+    requireDeck();
+    size = 0;
+    Arrays.fill(remaining, 0);
+  }
+
+  /**
+   * Resets the deck of playing Cards. The deck is refilled with the
+   * canonical order of all the cards of its standard decks.
+   */
+  public void resetDeck() {
+    int fullSize = deckCount * CardMask.CARDS_PER_DECK;
+    if (cards == null || cards.length < fullSize) {
+      cards = new byte[fullSize];
+    }
+    for (int deck = 0; deck < deckCount; deck++) {
+      System.arraycopy(ORDERED_DECK, 0, cards, deck * ORDERED_DECK.length, ORDERED_DECK.length);
+    }
+    size = fullSize;
+    Arrays.fill(remaining, deckCount);
+  }
+
+  /*
+   * Throws a NullPointerException if the deck has been set to null.
+   */
+  private void requireDeck() {
+    if (cards == null) {
+      throw new NullPointerException("Deck is null");
+    }
+  }
+}
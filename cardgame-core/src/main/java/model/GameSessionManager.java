@@ -0,0 +1,192 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The GameSessionManager class hosts many independent card games, called sessions, in one
+ * JVM. Every session has its own CardManager, with its own deck and hand of playing cards.
+ *
+ * <p>The sessions are striped over a fixed number of lanes by their session id. A lane is a
+ * single thread that owns the sessions of the lane, so the deck and hand of a session are only
+ * ever touched by the thread of its lane. There is no lock shared between the sessions, and
+ * sessions on different lanes are dealt and checked in parallel. The operations of one session
+ * run in the order they are submitted.
+ *
+ * <p>All the methods are safe to call from any thread. The deal and check operations return
+ * a CompletableFuture that is completed by the lane. The future completes exceptionally with
+ * an IllegalArgumentException if the session is not open.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class GameSessionManager implements AutoCloseable {
+
+  private static final long SESSION_ID_MIX = 0x9E3779B97F4A7C15L; // Spreads the ids over the lanes
+
+  private final Lane[] lanes; // The lanes the sessions are striped over
+  private final AtomicLong nextSessionId = new AtomicLong(); // The id of the next session
+
+  /**
+   * Creates an instance of a GameSessionManager with one lane for every processor.
+   */
+  public GameSessionManager() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates an instance of a GameSessionManager with the given number of lanes.
+   *
+   * @param laneCount the number of lanes, i.e. the number of sessions that can run in parallel
+   * @throws IllegalArgumentException if the lane count is less than 1
+   */
+  public GameSessionManager(int laneCount) {
+    if (laneCount < 1) {
+      throw new IllegalArgumentException("Parameter laneCount must be at least 1");
+    }
+    lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane("card-session-lane-" + i);
+    }
+  }
+
+  /**
+   * Opens a new session with a full deck of playing cards and an empty hand.
+   *
+   * @return the id of the new session
+   */
+  public long openSession() {
+    long sessionId = nextSessionId.getAndIncrement();
+    Lane lane = laneOf(sessionId);
+    lane.executor.execute(() -> lane.sessions.put(sessionId, new CardManager()));
+    return sessionId;
+  }
+
+  /**
+   * Closes the session with the given id. Operations of the session that were submitted
+   * before the session was closed are still run.
+   *
+   * @param sessionId the id of the session
+   * @return a future that is completed with true if the session was open, false otherwise
+   */
+  public CompletableFuture<Boolean> closeSession(long sessionId) {
+    Lane lane = laneOf(sessionId);
+    return CompletableFuture.supplyAsync(
+        () -> lane.sessions.remove(sessionId) != null, lane.executor);
+  }
+
+  /**
+   * Deals a new hand of playing cards in the given session, as
+   * {@link CardManager#drawCards(int)} does.
+   *
+   * @param sessionId the id of the session
+   * @param n the number of playing cards to deal (e.g. 5)
+   * @return a future that is completed with the playing cards of the new hand
+   */
+  public CompletableFuture<List<PlayingCard>> deal(long sessionId, int n) {
+    return check(sessionId, cardManager -> {
+      cardManager.drawCards(n);
+      List<PlayingCard> cards = new ArrayList<>(n);
+      Iterator<PlayingCard> iterator = cardManager.getHand().getCardsOnHand();
+      iterator.forEachRemaining(cards::add);
+      return cards;
+    });
+  }
+
+  /**
+   * Checks the hand in the given session, as {@link CardManager#analyzeHand()} does.
+   *
+   * @param sessionId the id of the session
+   * @return a future that is completed with the analysis of the hand
+   */
+  public CompletableFuture<HandAnalysis> check(long sessionId) {
+    return check(sessionId, CardManager::analyzeHand);
+  }
+
+  /**
+   * Runs a check of the hand in the given session, e.g.
+   * {@code check(id, CardManager::checkIfHandContainsFlush)}. The check is run by the lane of
+   * the session, so it must not keep a reference to the CardManager or to the hand, and the
+   * result must not be a lazy view of the hand, such as a Stream.
+   *
+   * @param sessionId the id of the session
+   * @param check the check to run with the CardManager of the session
+   * @param <T> the type of the result of the check
+   * @return a future that is completed with the result of the check
+   */
+  public <T> CompletableFuture<T> check(long sessionId, Function<CardManager, T> check) {
+    if (check == null) {
+      throw new NullPointerException("Check cannot be null");
+    }
+    Lane lane = laneOf(sessionId);
+    return CompletableFuture.supplyAsync(() -> {
+      CardManager cardManager = lane.sessions.get(sessionId);
+      if (cardManager == null) {
+        throw new IllegalArgumentException("Session " + sessionId + " is not open");
+      }
+      return check.apply(cardManager);
+    }, lane.executor);
+  }
+
+  /**
+   * Returns the number of lanes of the session manager.
+   *
+   * @return the number of lanes
+   */
+  public int getLaneCount() {
+    return lanes.length;
+  }
+
+  /**
+   * Stops the lanes after the operations already submitted have run. Operations submitted
+   * after the session manager is closed are rejected.
+   */
+  @Override
+  public void close() {
+    for (Lane lane : lanes) {
+      lane.executor.shutdown();
+    }
+    try {
+      for (Lane lane : lanes) {
+        lane.executor.awaitTermination(1, TimeUnit.MINUTES);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /*
+   * Returns the lane of the session with the given id.
+   */
+  private Lane laneOf(long sessionId) {
+    int hash = (int) ((sessionId * SESSION_ID_MIX) >>> 32);
+    return lanes[(int) ((hash & 0xFFFFFFFFL) * lanes.length >>> 32)];
+  }
+
+  /*
+   * A single thread and the sessions it owns. The sessions are only accessed by the thread.
+   */
+  private static final class Lane {
+
+    private final ExecutorService executor;
+    private final Map<Long, CardManager> sessions = new HashMap<>();
+
+    Lane(String name) {
+      executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package model;
+
+import java.util.List;
+
+/**
+ * The HandAnalysis record is the result of checking a hand of playing cards: the sum of the
+ * face values, the hearts in the hand, the flush status and the queen of spades status.
+ * A hand analysis is immutable, so it can be kept, reused and shared between threads after
+ * the hand has changed. It is created with {@link DeckHand#analyze()}.
+ *
+ * @param sum the sum of the face values of the playing cards in the hand
+ * @param hearts the playing cards in the hand that are hearts (e.g. H5)
+ * @param flush true if the hand is a flush, false otherwise
+ * @param queenOfSpades true if the hand contains the queen of spades, false otherwise
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public record HandAnalysis(int sum, List<String> hearts, boolean flush, boolean queenOfSpades) {
+
+  /**
+   * Creates a hand analysis with an unmodifiable copy of the hearts.
+   *
+   * @throws NullPointerException if the hearts are null
+   */
+  public HandAnalysis {
+    hearts = List.copyOf(hearts);
+  }
+
+  /**
+   * Returns the number of playing cards in the hand that are hearts.
+   *
+   * @return the number of hearts in the hand
+   */
+  public int heartCount() {
+    return hearts.size();
+  }
+}
@@ -0,0 +1,176 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The HandEnumerator class enumerates every possible hand of a given size from a standard
+ * deck, e.g. all C(52,5) = 2,598,960 hands of 5 cards, and returns the exact statistics of
+ * the hands. The statistics have the same form as the statistics of the {@link HandSimulator},
+ * so the simulated frequencies can be checked against the exact ones.
+ *
+ * <p>The hands are numbered from 0 to C(52,k) - 1 in increasing order of their card masks
+ * (see {@link CardMask}). The numbers are split into ranges between fork/join tasks, and
+ * every task finds the first hand of its range by unranking its number, and then steps to
+ * the next hand with a bit trick on the card mask. The hands are checked directly on the
+ * card masks, so no DeckHand or PlayingCard objects are created.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class HandEnumerator {
+
+  private static final long HANDS_PER_TASK = 1L << 16; // The number of hands checked by one task
+
+  /*
+   * BINOMIAL[n][k] is the number of ways to choose k cards from n cards.
+   */
+  private static final long[][] BINOMIAL = new long[CardMask.CARDS_PER_DECK + 1][];
+
+  static {
+    for (int n = 0; n <= CardMask.CARDS_PER_DECK; n++) {
+      BINOMIAL[n] = new long[n + 1];
+      BINOMIAL[n][0] = 1;
+      BINOMIAL[n][n] = 1;
+      for (int k = 1; k < n; k++) {
+        BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+      }
+    }
+  }
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates an instance of a HandEnumerator that runs on the common fork/join pool.
+   */
+  public HandEnumerator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates an instance of a HandEnumerator that runs on the given fork/join pool.
+   *
+   * @param pool the fork/join pool that checks the hands
+   * @throws NullPointerException if the pool is null
+   */
+  public HandEnumerator(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new NullPointerException("Pool cannot be null");
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the number of different hands of the given size, C(52, handSize).
+   *
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @return the number of different hands
+   * @throws IllegalArgumentException if the hand size is not between 1 and 52
+   */
+  public static long handCount(int handSize) {
+    checkHandSize(handSize);
+    return BINOMIAL[CardMask.CARDS_PER_DECK][handSize];
+  }
+
+  /**
+   * Checks every different hand of the given size and returns the exact statistics of the hands.
+   *
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @return the statistics of all the hands
+   * @throws IllegalArgumentException if the hand size is not between 1 and 52
+   */
+  public HandStatistics enumerate(int handSize) {
+    return pool.invoke(new EnumerationTask(handSize, 0, handCount(handSize)));
+  }
+
+  /**
+   * Returns the card mask of the hand with the given number, where the hands of a size
+   * are numbered from 0 to C(52, handSize) - 1 in increasing order of their card masks.
+   *
+   * @param handSize the number of cards in the hand, between 1 and 52
+   * @param rank the number of the hand
+   * @return the card mask of the hand
+   * @throws IllegalArgumentException if the hand size is not between 1 and 52,
+   *     or if the number is not a valid number of a hand
+   */
+  public static long unrank(int handSize, long rank) {
+    if (rank < 0 || rank >= handCount(handSize)) {
+      throw new IllegalArgumentException("Parameter rank is not the number of a hand");
+    }
+    long mask = 0;
+    int card = CardMask.CARDS_PER_DECK - 1;
+    for (int k = handSize; k > 0; k--) {
+      while (binomial(card, k) > rank) {
+        card--;
+      }
+      mask |= 1L << card;
+      rank -= binomial(card, k);
+      card--;
+    }
+    return mask;
+  }
+
+  /*
+   * Returns the next larger card mask with the same number of cards (Gosper's hack).
+   */
+  static long nextHand(long mask) {
+    long lowest = mask & -mask;
+    long ripple = mask + lowest;
+    return ripple | (((mask ^ ripple) >>> 2) / lowest);
+  }
+
+  private static long binomial(int n, int k) {
+    return k > n ? 0 : BINOMIAL[n][k];
+  }
+
+  private static void checkHandSize(int handSize) {
+    if (handSize < 1 || handSize > CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter handSize must be a number between 1 to 52");
+    }
+  }
+
+  /*
+   * A fork/join task that checks the hands with the numbers from (inclusive) to to (exclusive),
+   * or splits them between two subtasks.
+   */
+  private static final class EnumerationTask extends RecursiveTask<HandStatistics> {
+
+    private final int handSize;
+    private final long from;
+    private final long to;
+
+    EnumerationTask(int handSize, long from, long to) {
+      this.handSize = handSize;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected HandStatistics compute() {
+      if (to - from <= HANDS_PER_TASK) {
+        return check();
+      }
+      long middle = from + (to - from) / 2;
+      EnumerationTask left = new EnumerationTask(handSize, from, middle);
+      EnumerationTask right = new EnumerationTask(handSize, middle, to);
+      left.fork();
+      HandStatistics statistics = right.compute();
+      statistics.merge(left.join());
+      return statistics;
+    }
+
+    private HandStatistics check() {
+      HandStatistics statistics = new HandStatistics(handSize);
+      long mask = unrank(handSize, from);
+      for (long rank = from; rank < to; rank++) {
+        statistics.record(CardMask.sumOfFaces(mask), CardMask.heartCount(mask),
+            CardMask.isFlush(mask), CardMask.containsQueenOfSpades(mask));
+        if (rank + 1 < to) {
+          mask = nextHand(mask);
+        }
+      }
+      return statistics;
+    }
+  }
+}
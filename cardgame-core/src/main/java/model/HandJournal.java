@@ -0,0 +1,368 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The HandJournal class is an append-only binary journal of dealt hands, e.g. as an audit log
+ * of the hands dealt by a CardManager (see {@link CardManager#setJournal(HandJournal)}).
+ * The journal is read back with a {@link HandJournalReader}.
+ *
+ * <p>The journal starts with the 4 bytes "CGJ1". Every hand is a record of one byte with the
+ * number of cards, followed by the card indexes (see {@link CardMask}) packed into 6 bits each,
+ * most significant bit first and padded to a whole byte. A hand of 5 cards takes 5 bytes.
+ *
+ * <p>The hands are recorded into a buffer in memory, so recording a hand does not wait for the
+ * disk. Full buffers are written to the file by a background thread while the dealing thread
+ * fills the next buffer. A buffer that is not full is written when no buffer has been filled
+ * for {@value #COMMIT_INTERVAL_MILLIS} ms, so the hands of many deals are written together
+ * (group commit). The background thread sleeps while there are no hands to write.
+ * Call {@link #flush()} to wait until every recorded hand is on disk.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class HandJournal implements AutoCloseable {
+
+  static final int MAGIC = 0x43474A31; // The first 4 bytes of a journal, "CGJ1"
+  static final int MAX_HAND_SIZE = 255; // The most cards in a record
+
+  private static final int BUFFER_SIZE = 1 << 16; // The size of every buffer
+  private static final int BUFFER_COUNT = 4; // The number of buffers
+  private static final long COMMIT_INTERVAL_MILLIS = 10; // The longest wait before a write
+  private static final ByteBuffer CLOSE = ByteBuffer.allocate(0); // Stops the writer thread
+
+  private final FileChannel channel; // The file of the journal
+  private final BlockingQueue<ByteBuffer> freeBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT);
+  private final BlockingQueue<ByteBuffer> fullBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+  private final ReentrantLock lock = new ReentrantLock(); // Guards the current buffer
+  private final Condition work = lock.newCondition(); // Signalled when there is work to write
+  private final byte[] cards = new byte[MAX_HAND_SIZE]; // The cards of the hand being recorded
+  private final Thread writer; // Writes the full buffers to the file
+  private final Object progress = new Object(); // Guards the submitted and written counts
+  private ByteBuffer buffer; // The buffer the hands are recorded into
+  private long submittedBuffers; // The number of buffers handed to the writer thread
+  private long writtenBuffers; // The number of buffers written to the file
+  private long handCount; // The number of hands recorded
+  private boolean closed;
+  private volatile IOException failure; // The first error of the writer thread
+
+  /**
+   * Opens the journal in the given file. A new journal is created if the file does not exist
+   * or is empty, otherwise the hands are appended to the journal in the file. A hand that was
+   * only partly written to the file, e.g. when the program stopped during a write, is removed.
+   *
+   * @param path the file of the journal
+   * @throws IOException if the file cannot be opened, or is not a journal
+   */
+  public HandJournal(Path path) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).flip();
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+      } else {
+        HandJournalReader.readHeader(channel);
+        long end = endOfLastHand(channel);
+        if (end < channel.size()) {
+          channel.truncate(end);
+        }
+        channel.position(end); // The hands are only ever appended
+      }
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    for (int i = 0; i < BUFFER_COUNT - 1; i++) {
+      freeBuffers.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+    buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    writer = new Thread(this::writeBuffers, "hand-journal-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Records the cards of a hand in the journal. The method returns when the hand is in
+   * the buffer in memory, which is written to the file by the background thread.
+   *
+   * @param hand the hand to record
+   * @throws IllegalArgumentException if the hand has more than 255 cards
+   * @throws IllegalStateException if the journal is closed
+   * @throws UncheckedIOException if the journal could not be written to the file
+   */
+  public void record(DeckHand hand) {
+    int count = hand.getCardCount();
+    if (count > MAX_HAND_SIZE) {
+      throw new IllegalArgumentException("Hand cannot have more than 255 cards");
+    }
+    lock.lock();
+    try {
+      checkOpen();
+      int size = 1 + (count * 6 + 7) / 8;
+      if (buffer.remaining() < size) {
+        submit();
+      }
+      if (buffer.position() == 0) {
+        work.signal(); // The first hand of the buffer must be written within the interval
+      }
+      Iterator<PlayingCard> iterator = hand.getCardsOnHand();
+      for (int i = 0; i < count; i++) {
+        cards[i] = (byte) iterator.next().getIndex();
+      }
+      buffer.put((byte) count);
+      int bits = 0; // The number of bits in the accumulator that are not written yet
+      int accumulator = 0;
+      for (int i = 0; i < count; i++) {
+        accumulator = (accumulator << 6) | cards[i];
+        bits += 6;
+        if (bits >= 8) {
+          bits -= 8;
+          buffer.put((byte) (accumulator >>> bits));
+        }
+      }
+      if (bits > 0) {
+        buffer.put((byte) (accumulator << (8 - bits)));
+      }
+      handCount++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of hands recorded since the journal was opened.
+   *
+   * @return the number of hands recorded
+   */
+  public long getHandCount() {
+    lock.lock();
+    try {
+      return handCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes every recorded hand to the file and forces the file to the disk.
+   *
+   * @throws IOException if the journal could not be written to the file
+   * @throws IllegalStateException if the journal is closed
+   */
+  public void flush() throws IOException {
+    long submitted;
+    lock.lock();
+    try {
+      checkOpen();
+      if (buffer.position() > 0) {
+        submit();
+      }
+      submitted = submittedBuffers();
+    } finally {
+      lock.unlock();
+    }
+    awaitWritten(submitted);
+    channel.force(false);
+  }
+
+  /**
+   * Writes every recorded hand to the file and closes the journal.
+   *
+   * @throws IOException if the journal could not be written to the file
+   */
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      if (buffer.position() > 0 && failure == null) {
+        submit();
+      }
+      closed = true;
+      fullBuffers.add(CLOSE);
+      work.signal();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try (channel) {
+      if (failure != null) {
+        throw failure;
+      }
+      channel.force(false);
+    }
+  }
+
+  /*
+   * Returns the position after the last complete hand in the file, which is positioned after
+   * the header. A hand is at most 193 bytes, so a read that holds no complete hand has reached
+   * a hand that was only partly written.
+   */
+  private static long endOfLastHand(FileChannel channel) throws IOException {
+    ByteBuffer data = ByteBuffer.allocate(BUFFER_SIZE);
+    long end = channel.position(); // The end of the last complete hand
+    long size = channel.size();
+    while (end < size) {
+      data.clear();
+      while (data.hasRemaining() && channel.read(data, end + data.position()) > 0) {
+        // Fills the buffer from the end of the last complete hand
+      }
+      data.flip();
+      long start = end;
+      while (data.hasRemaining()) {
+        int length = 1 + ((data.get(data.position()) & 0xFF) * 6 + 7) / 8;
+        if (data.remaining() < length) {
+          break;
+        }
+        data.position(data.position() + length);
+        end += length;
+      }
+      if (end == start) {
+        break;
+      }
+    }
+    return end;
+  }
+
+  /*
+   * Throws an exception if the journal is closed or could not be written.
+   */
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Journal is closed");
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("Journal could not be written", failure);
+    }
+  }
+
+  /*
+   * Hands the current buffer to the writer thread and takes a free buffer.
+   * The lock must be held.
+   */
+  private void submit() {
+    fullBuffers.add(buffer.flip());
+    work.signal();
+    synchronized (progress) {
+      submittedBuffers++;
+    }
+    boolean interrupted = false;
+    while (true) {
+      try {
+        buffer = freeBuffers.take();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true; // The hand must still be recorded
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private long submittedBuffers() {
+    synchronized (progress) {
+      return submittedBuffers;
+    }
+  }
+
+  /*
+   * Waits until the given number of buffers has been written by the writer thread.
+   */
+  private void awaitWritten(long buffers) throws IOException {
+    synchronized (progress) {
+      while (writtenBuffers < buffers && failure == null) {
+        try {
+          progress.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while flushing the journal", e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /*
+   * The loop of the writer thread. Writes the full buffers to the file, and the current
+   * buffer when no buffer has been filled for the commit interval.
+   */
+  private void writeBuffers() {
+    while (true) {
+      ByteBuffer next = fullBuffers.poll();
+      if (next == null) {
+        try {
+          next = awaitBuffer();
+        } catch (InterruptedException e) {
+          continue; // Only close() stops the writer thread
+        }
+      }
+      if (next == CLOSE) {
+        return;
+      }
+      try {
+        if (failure == null) {
+          while (next.hasRemaining()) {
+            channel.write(next);
+          }
+        }
+      } catch (IOException e) {
+        failure = e;
+      }
+      next.clear();
+      freeBuffers.add(next);
+      synchronized (progress) {
+        writtenBuffers++;
+        progress.notifyAll();
+      }
+    }
+  }
+
+  /*
+   * Waits for the next buffer to write. Sleeps while the current buffer has no hands, and
+   * hands the current buffer to the writer thread when no buffer has been filled for the
+   * commit interval. A buffer is always free then, as the writer thread holds no buffer.
+   */
+  private ByteBuffer awaitBuffer() throws InterruptedException {
+    lock.lock();
+    try {
+      while (true) {
+        ByteBuffer next = fullBuffers.poll();
+        if (next != null) {
+          return next;
+        }
+        if (buffer.position() == 0) {
+          work.await();
+        } else if (!work.await(COMMIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)
+            && fullBuffers.isEmpty() && !freeBuffers.isEmpty()) {
+          submit();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+}
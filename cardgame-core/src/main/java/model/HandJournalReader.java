@@ -0,0 +1,166 @@
+package model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The HandJournalReader class reads the hands of a journal written by a {@link HandJournal},
+ * in the order they were recorded. The file is read in large blocks, and the hands are either
+ * read one at a time into an array of card indexes with {@link #readHand(int[])}, which does
+ * not allocate, or streamed as lists of playing cards with {@link #hands()}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class HandJournalReader implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 1 << 16; // The size of the read buffer
+
+  private final FileChannel channel; // The file of the journal
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE); // The read buffer
+
+  /**
+   * Opens the journal in the given file for reading.
+   *
+   * @param path the file of the journal
+   * @throws IOException if the file cannot be opened, or is not a journal
+   */
+  public HandJournalReader(Path path) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      readHeader(channel);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    buffer.flip(); // The buffer starts out empty
+  }
+
+  /*
+   * Reads the header of a journal from the channel and checks that the file is a journal.
+   */
+  static void readHeader(FileChannel channel) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+    while (header.hasRemaining()) {
+      if (channel.read(header) < 0) {
+        throw new IOException("File is not a hand journal");
+      }
+    }
+    if (header.flip().getInt() != HandJournal.MAGIC) {
+      throw new IOException("File is not a hand journal");
+    }
+  }
+
+  /**
+   * Reads the next hand of the journal into the given array of card indexes
+   * (see {@link CardMask}).
+   *
+   * @param cards the array the card indexes of the hand are written to
+   * @return the number of cards in the hand, or -1 at the end of the journal
+   * @throws IOException if the journal cannot be read, or ends in the middle of a hand
+   * @throws IllegalArgumentException if the array is too small for the hand
+   */
+  public int readHand(int[] cards) throws IOException {
+    if (!fill(1)) {
+      return -1;
+    }
+    int count = buffer.get() & 0xFF;
+    if (count > cards.length) {
+      throw new IllegalArgumentException("Array is too small for a hand of " + count + " cards");
+    }
+    if (!fill((count * 6 + 7) / 8)) {
+      throw new EOFException("Journal ends in the middle of a hand");
+    }
+    int bits = 0; // The number of bits in the accumulator that are not read yet
+    int accumulator = 0;
+    for (int i = 0; i < count; i++) {
+      if (bits < 6) {
+        accumulator = (accumulator << 8) | (buffer.get() & 0xFF);
+        bits += 8;
+      }
+      bits -= 6;
+      int index = (accumulator >>> bits) & 0x3F;
+      if (index >= CardMask.CARDS_PER_DECK) {
+        throw new IOException("Journal contains an invalid card index " + index);
+      }
+      cards[i] = index;
+    }
+    return count;
+  }
+
+  /**
+   * Returns a sequential stream of the remaining hands of the journal. An error while
+   * reading the journal is thrown as an UncheckedIOException.
+   *
+   * @return a stream of the hands, as lists of playing cards
+   */
+  public Stream<List<PlayingCard>> hands() {
+    int[] cards = new int[HandJournal.MAX_HAND_SIZE];
+    Spliterator<List<PlayingCard>> spliterator = new Spliterators.AbstractSpliterator<>(
+        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+      @Override
+      public boolean tryAdvance(Consumer<? super List<PlayingCard>> action) {
+        int count;
+        try {
+          count = readHand(cards);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (count < 0) {
+          return false;
+        }
+        List<PlayingCard> hand = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          hand.add(PlayingCard.fromIndex(cards[i]));
+        }
+        action.accept(hand);
+        return true;
+      }
+    };
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  /**
+   * Closes the file of the journal.
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /*
+   * Reads from the file until the buffer has the given number of bytes, or the file ends.
+   * Returns false if the file ends first.
+   */
+  private boolean fill(int bytes) throws IOException {
+    if (buffer.remaining() >= bytes) {
+      return true;
+    }
+    buffer.compact();
+    try {
+      while (buffer.position() < bytes) {
+        if (channel.read(buffer) < 0) {
+          return false;
+        }
+      }
+    } finally {
+      buffer.flip();
+    }
+    return true;
+  }
+}
@@ -0,0 +1,109 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The HandSimulator class is a Monte Carlo simulator that deals and checks a large number
+ * of hands using all the cores of the machine. The hands are dealt by a CardManager and
+ * checked by its DeckHand, using the same rules as the card game.
+ *
+ * <p>The work is split into fork/join tasks. Every task deals from its own deck with its
+ * own random generator, split from a SplittableRandom, and collects its own
+ * {@link HandStatistics}, so the workers never share state while dealing. The statistics
+ * are merged when the tasks are joined. The result only depends on the seed, not on the
+ * number of threads.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class HandSimulator {
+
+  private static final long HANDS_PER_TASK = 1L << 16; // The number of hands dealt by one task
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates an instance of a HandSimulator that runs on the common fork/join pool.
+   */
+  public HandSimulator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates an instance of a HandSimulator that runs on the given fork/join pool.
+   *
+   * @param pool the fork/join pool that deals the hands
+   * @throws NullPointerException if the pool is null
+   */
+  public HandSimulator(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new NullPointerException("Pool cannot be null");
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Deals and checks the given number of hands and returns the statistics of the hands.
+   *
+   * @param hands the number of hands to deal
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @param seed the seed of the random generators, the same seed gives the same statistics
+   * @return the statistics of the dealt hands
+   * @throws IllegalArgumentException if the number of hands is negative,
+   *     or if the hand size is not between 1 and 52
+   */
+  public HandStatistics simulate(long hands, int handSize, long seed) {
+    if (hands < 0) {
+      throw new IllegalArgumentException("Parameter hands cannot be negative");
+    }
+    if (handSize < 1 || handSize > CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter handSize must be a number between 1 to 52");
+    }
+    return pool.invoke(new SimulationTask(new SplittableRandom(seed), hands, handSize));
+  }
+
+  /*
+   * A fork/join task that deals a number of hands, or splits them between two subtasks.
+   */
+  private static final class SimulationTask extends RecursiveTask<HandStatistics> {
+
+    private final SplittableRandom random;
+    private final long hands;
+    private final int handSize;
+
+    SimulationTask(SplittableRandom random, long hands, int handSize) {
+      this.random = random;
+      this.hands = hands;
+      this.handSize = handSize;
+    }
+
+    @Override
+    protected HandStatistics compute() {
+      if (hands <= HANDS_PER_TASK) {
+        return deal();
+      }
+      long half = hands / 2;
+      SimulationTask left = new SimulationTask(random.split(), half, handSize);
+      SimulationTask right = new SimulationTask(random, hands - half, handSize);
+      left.fork();
+      HandStatistics statistics = right.compute();
+      statistics.merge(left.join());
+      return statistics;
+    }
+
+    private HandStatistics deal() {
+      HandStatistics statistics = new HandStatistics(handSize);
+      CardManager cardManager = new CardManager(new DeckOfCards(random));
+      DeckHand hand = cardManager.getHand();
+      for (long i = 0; i < hands; i++) {
+        cardManager.drawCards(handSize);
+        statistics.record(hand.calculateSumOfCards(), hand.getHeartCount(),
+            hand.isFlush(), hand.isSpadeAndQueen());
+      }
+      return statistics;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The HandStatistics class collects statistics about a number of hands of the same size:
+ * how many of the hands are a flush, how many contain the queen of spades, and histograms
+ * of the number of hearts and of the sum of the faces in the hands.
+ *
+ * <p>A HandStatistics object is not thread-safe. Every worker collects its own statistics,
+ * and the statistics of the workers are combined with {@link #merge(HandStatistics)}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class HandStatistics {
+
+  private final int handSize; // The number of cards in every hand
+  private final long[] heartsHistogram; // Index = number of hearts in a hand
+  private final long[] sumHistogram; // Index = sum of the faces in a hand
+  private long handCount;
+  private long flushCount;
+  private long queenOfSpadesCount;
+
+  /**
+   * Creates an instance of a HandStatistics object without any hands for hands of the given size.
+   *
+   * @param handSize the number of cards in every hand, between 1 and 52
+   * @throws IllegalArgumentException if the hand size is not between 1 and 52
+   */
+  public HandStatistics(int handSize) {
+    if (handSize < 1 || handSize > CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter handSize must be a number between 1 to 52");
+    }
+    this.handSize = handSize;
+    this.heartsHistogram = new long[handSize + 1];
+    this.sumHistogram = new long[handSize * CardMask.FACES_PER_SUIT + 1];
+  }
+
+  /**
+   * Records the properties of a hand.
+   *
+   * @param sum the sum of the faces in the hand
+   * @param hearts the number of hearts in the hand
+   * @param flush true if the hand is a flush
+   * @param queenOfSpades true if the hand contains the queen of spades
+   */
+  public void record(int sum, int hearts, boolean flush, boolean queenOfSpades) {
+    handCount++;
+    sumHistogram[sum]++;
+    heartsHistogram[hearts]++;
+    if (flush) {
+      flushCount++;
+    }
+    if (queenOfSpades) {
+      queenOfSpadesCount++;
+    }
+  }
+
+  /**
+   * Adds the statistics of another HandStatistics object to this one.
+   *
+   * @param other the statistics to add
+   * @throws IllegalArgumentException if the other statistics are for a different hand size
+   */
+  public void merge(HandStatistics other) {
+    if (other.handSize != handSize) {
+      throw new IllegalArgumentException("Cannot merge statistics of different hand sizes");
+    }
+    handCount += other.handCount;
+    flushCount += other.flushCount;
+    queenOfSpadesCount += other.queenOfSpadesCount;
+    for (int i = 0; i < heartsHistogram.length; i++) {
+      heartsHistogram[i] += other.heartsHistogram[i];
+    }
+    for (int i = 0; i < sumHistogram.length; i++) {
+      sumHistogram[i] += other.sumHistogram[i];
+    }
+  }
+
+  /**
+   * Returns the number of cards in every hand.
+   *
+   * @return the hand size
+   */
+  public int getHandSize() {
+    return handSize;
+  }
+
+  /**
+   * Returns the number of recorded hands.
+   *
+   * @return the number of hands
+   */
+  public long getHandCount() {
+    return handCount;
+  }
+
+  /**
+   * Returns the number of recorded hands that are a flush.
+   *
+   * @return the number of flushes
+   */
+  public long getFlushCount() {
+    return flushCount;
+  }
+
+  /**
+   * Returns the number of recorded hands that contain the queen of spades.
+   *
+   * @return the number of hands with the queen of spades
+   */
+  public long getQueenOfSpadesCount() {
+    return queenOfSpadesCount;
+  }
+
+  /**
+   * Returns the total number of hearts in all the recorded hands.
+   *
+   * @return the number of hearts
+   */
+  public long getHeartCount() {
+    long hearts = 0;
+    for (int i = 1; i < heartsHistogram.length; i++) {
+      hearts += i * heartsHistogram[i];
+    }
+    return hearts;
+  }
+
+  /**
+   * Returns a copy of the histogram of the number of hearts, where the value at
+   * index i is the number of hands with exactly i hearts.
+   *
+   * @return the histogram of the number of hearts
+   */
+  public long[] getHeartsHistogram() {
+    return Arrays.copyOf(heartsHistogram, heartsHistogram.length);
+  }
+
+  /**
+   * Returns a copy of the histogram of the sums, where the value at index i is the
+   * number of hands where the sum of the faces is exactly i.
+   *
+   * @return the histogram of the sums
+   */
+  public long[] getSumHistogram() {
+    return Arrays.copyOf(sumHistogram, sumHistogram.length);
+  }
+
+  /**
+   * Returns the fraction of the recorded hands that are a flush.
+   *
+   * @return the flush frequency, or 0 if no hands are recorded
+   */
+  public double getFlushFrequency() {
+    return handCount == 0 ? 0 : (double) flushCount / handCount;
+  }
+
+  /**
+   * Returns the fraction of the recorded hands that contain the queen of spades.
+   *
+   * @return the queen of spades frequency, or 0 if no hands are recorded
+   */
+  public double getQueenOfSpadesFrequency() {
+    return handCount == 0 ? 0 : (double) queenOfSpadesCount / handCount;
+  }
+
+  /**
+   * Returns the average sum of the faces in the recorded hands.
+   *
+   * @return the average sum, or 0 if no hands are recorded
+   */
+  public double getAverageSum() {
+    long total = 0;
+    for (int i = 1; i < sumHistogram.length; i++) {
+      total += i * sumHistogram[i];
+    }
+    return handCount == 0 ? 0 : (double) total / handCount;
+  }
+}
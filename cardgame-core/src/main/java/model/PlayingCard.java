@@ -0,0 +1,197 @@
+package model;
+
+/**
+ * Represents a playing card. A playing card has a number (face) between
+ * 1 and 13, where 1 is called an Ace, 11 = Knight, 12 = Queen and 13 = King.
+ * The card can also be one of 4 suits: Spade, Heart, Diamonds and Clubs.
+ * Playing cards are immutable, and {@link #of(char, int)} returns one canonical
+ * instance per card so that decks can be generated without allocating new cards.
+ *
+ * @author ntnu
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 03.09.2025
+ */
+public class PlayingCard {
+
+  private final char suit; // 'S'=spade, 'H'=heart, 'D'=diamonds, 'C'=clubs
+  private final int face; // a number between 1 and 13
+  private final int index; // the compact encoding of the card, see CardMask
+
+  private static final String[] CODES = new String[CardMask.CARDS_PER_DECK]; // e.g. "H4"
+  private static final PlayingCard[] CARDS = new PlayingCard[CardMask.CARDS_PER_DECK];
+
+  static {
+    for (int index = 0; index < CARDS.length; index++) {
+      CODES[index] = String.valueOf(CardMask.suitOf(index)) + CardMask.faceOf(index);
+      CARDS[index] = new PlayingCard(CardMask.suitOf(index), CardMask.faceOf(index));
+    }
+  }
+
+  /**
+   * Creates an instance of a model.PlayingCard with a given suit and face.
+   * The face value is an integer between 1 and 13, where 11 represents the jack,
+   * 12 represents the queen and 13 represents the king. The Ace is represented by the
+   * number 1.
+   *
+   * @param suit The suit of the card, as a single character. 'S' for Spades,
+   *             'H' for Heart, 'D' for Diamonds and 'C' for clubs
+   * @param face The face value of the card, an integer between 1 and 13
+   * @throws IllegalArgumentException if suit or face have invalid values.
+   */
+  public PlayingCard(char suit, int face) {
+    if (suit != 'H' && suit != 'D' && suit != 'C' && suit != 'S') {
+      throw new IllegalArgumentException("Parameter suit must be one of H, D, C or S");
+    }
+
+    if (face < 1 || face > 13) {
+      throw new IllegalArgumentException("Parameter face must be a number between 1 to 13");
+    }
+
+    this.suit = suit;
+    this.face = face;
+    this.index = CardMask.indexOf(suit, face);
+  }
+
+  /**
+   * Returns the canonical instance of the playing card with the given suit and face.
+   * The same instance is returned for every call with the same suit and face,
+   * so canonical cards can be compared by identity.
+   *
+   * @param suit The suit of the card, as a single character. 'S' for Spades,
+   *             'H' for Heart, 'D' for Diamonds and 'C' for clubs
+   * @param face The face value of the card, an integer between 1 and 13
+   * @return the canonical instance of the playing card
+   * @throws IllegalArgumentException if suit or face have invalid values.
+   */
+  public static PlayingCard of(char suit, int face) {
+    return CARDS[CardMask.indexOf(suit, face)];
+  }
+
+  /**
+   * Returns the canonical instance of the playing card with the given card code,
+   * which is the format returned by {@link #getAsString()}. A 12 of hearts is
+   * parsed from the string "H12".
+   *
+   * @param code the card code, the suit followed by the face value (e.g. "H12")
+   * @return the canonical instance of the playing card
+   * @throws NullPointerException if the card code is null
+   * @throws IllegalArgumentException if the card code is not a valid card
+   */
+  public static PlayingCard parse(String code) {
+    if (code == null) {
+      throw new NullPointerException("Card code cannot be null");
+    }
+    int length = code.length();
+    if (length < 2 || length > 3) {
+      throw new IllegalArgumentException("Invalid card code: " + code);
+    }
+    int ordinal = CardMask.suitOrdinal(code.charAt(0));
+    int face = 0;
+    for (int i = 1; i < length; i++) {
+      int digit = code.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new IllegalArgumentException("Invalid card code: " + code);
+      }
+      face = face * 10 + digit;
+    }
+    if (ordinal < 0 || face < 1 || face > CardMask.FACES_PER_SUIT) {
+      throw new IllegalArgumentException("Invalid card code: " + code);
+    }
+    return CARDS[ordinal * CardMask.FACES_PER_SUIT + face - 1];
+  }
+
+  /**
+   * Returns the canonical instance of the playing card with the given index
+   * in the compact encoding of {@link CardMask}.
+   *
+   * @param index the index of the card, between 0 and 51
+   * @return the playing card with the given index
+   * @throws IllegalArgumentException if the index is not between 0 and 51
+   */
+  public static PlayingCard fromIndex(int index) {
+    if (index < 0 || index >= CardMask.CARDS_PER_DECK) {
+      throw new IllegalArgumentException("Parameter index must be a number between 0 to 51");
+    }
+    return CARDS[index];
+  }
+
+  /**
+   * Returns the suit and face of the card as a string.
+   * A 4 of hearts is returned as the string "H4". The strings are created once
+   * for all 52 cards, so the method does not allocate.
+   *
+   * @return the suit and face of the card as a string
+   */
+  public String getAsString() {
+    return CODES[index];
+  }
+
+  /**
+   * Returns the suit of the card, 'S' for Spades, 'H' for Heart,
+   * 'D' for Diamonds and 'C' for clubs.
+   *
+   * @return the suit of the card
+   */
+  public char getSuit() {
+    return suit;
+  }
+
+  /**
+   * Returns the face of the card (value between 1 and 13).
+   *
+   * @return the face of the card
+   */
+  public int getFace() {
+    return face;
+  }
+
+  /**
+   * Returns the index of the card in the compact encoding of {@link CardMask},
+   * a number between 0 and 51.
+   *
+   * @return the index of the card
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Returns the bit of the card in a card mask, see {@link CardMask}.
+   *
+   * @return the bit of the card in a card mask
+   */
+  public long getMask() {
+    return 1L << index;
+  }
+
+  /**
+   * Returns the color of the card.
+   * Hearts and Diamonds are red, while Spades and Clubs are black.
+   *
+   * @return the color of the card
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PlayingCard otherCard = (PlayingCard) o;
+    return getSuit() == otherCard.getSuit() && getFace() == otherCard.getFace();
+  }
+
+  /**
+   * Returns a hash code value for the object.
+   * @return a hash code value for this object.
+   */
+  @Override
+  public int hashCode() {
+    int hash = 7;
+    hash = 31 * hash + getSuit();
+    hash = 31 * hash + getFace();
+    return hash;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * The PokerHandCategory enum represents the categories of a poker hand,
+ * ordered from the weakest (high card) to the strongest (straight flush).
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public enum PokerHandCategory {
+  HIGH_CARD,
+  ONE_PAIR,
+  TWO_PAIR,
+  THREE_OF_A_KIND,
+  STRAIGHT,
+  FLUSH,
+  FULL_HOUSE,
+  FOUR_OF_A_KIND,
+  STRAIGHT_FLUSH
+}
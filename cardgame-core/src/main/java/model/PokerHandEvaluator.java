@@ -0,0 +1,172 @@
+package model;
+
+/**
+ * The PokerHandEvaluator class ranks poker hands of 5 to 7 distinct cards given as a card
+ * mask (see {@link CardMask}). For 6 and 7 cards the rank of the best 5-card hand is returned.
+ *
+ * <p>The rank is an int where a higher value is a stronger hand, so two hands are compared
+ * by comparing their ranks. The category of the hand is stored in the highest bits of the
+ * rank and is returned by {@link #categoryOf(int)}.
+ *
+ * <p>The evaluation works on the 13-bit rank masks of the four suits. The pairs, trips and
+ * quads are found by intersecting the suits, and straights and kickers are looked up in
+ * tables precomputed for every rank mask, so a hand is ranked in constant time without
+ * allocating.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public final class PokerHandEvaluator {
+
+  private static final int RANKS = 1 << CardMask.FACES_PER_SUIT; // Every 13-bit rank mask
+  private static final int CATEGORY_SHIFT = 26; // The category is stored above two rank masks
+  private static final int MAJOR_SHIFT = 13; // The deciding ranks are stored above the kickers
+  private static final int ACE_LOW_STRAIGHT = 0x100F; // A, 2, 3, 4 and 5 in ace-high order
+
+  /*
+   * ACE_HIGH[ranks] converts a suit of a card mask (bit 0 = ace, bit 12 = king) to
+   * ace-high order (bit 0 = two, bit 12 = ace), so a higher bit is a higher rank.
+   */
+  private static final short[] ACE_HIGH = new short[RANKS];
+
+  /*
+   * STRAIGHT[ranks] is the bit of the highest card of the best straight in an
+   * ace-high rank mask, or 0 if the rank mask does not contain a straight.
+   */
+  private static final short[] STRAIGHT = new short[RANKS];
+
+  /*
+   * TOP_FIVE[ranks] keeps the five highest ranks of an ace-high rank mask.
+   */
+  private static final short[] TOP_FIVE = new short[RANKS];
+
+  private static final PokerHandCategory[] CATEGORIES = PokerHandCategory.values();
+
+  static {
+    for (int ranks = 0; ranks < RANKS; ranks++) {
+      ACE_HIGH[ranks] = (short) ((ranks >>> 1) | ((ranks & 1) << 12));
+      TOP_FIVE[ranks] = (short) keepHighest(ranks, 5);
+      for (int high = 12; high >= 4 && STRAIGHT[ranks] == 0; high--) {
+        int straight = 0x1F << (high - 4);
+        if ((ranks & straight) == straight) {
+          STRAIGHT[ranks] = (short) (1 << high);
+        }
+      }
+      if (STRAIGHT[ranks] == 0 && (ranks & ACE_LOW_STRAIGHT) == ACE_LOW_STRAIGHT) {
+        STRAIGHT[ranks] = 1 << 3; // A five-high straight
+      }
+    }
+  }
+
+  private PokerHandEvaluator() {
+    // Utility class
+  }
+
+  /**
+   * Returns the rank of the best poker hand in the card mask.
+   *
+   * @param mask the mask of the cards, with 5 to 7 cards
+   * @return the rank of the hand, where a higher rank is a stronger hand
+   * @throws IllegalArgumentException if the mask does not contain 5 to 7 cards
+   */
+  public static int evaluate(long mask) {
+    int cardCount = Long.bitCount(mask);
+    if (cardCount < 5 || cardCount > 7) {
+      throw new IllegalArgumentException("A poker hand must have 5 to 7 cards");
+    }
+    int spades = ACE_HIGH[(int) (mask & CardMask.SUIT_BITS)];
+    int hearts = ACE_HIGH[(int) ((mask >>> 13) & CardMask.SUIT_BITS)];
+    int diamonds = ACE_HIGH[(int) ((mask >>> 26) & CardMask.SUIT_BITS)];
+    int clubs = ACE_HIGH[(int) ((mask >>> 39) & CardMask.SUIT_BITS)];
+
+    int flush = flushRanks(spades, hearts, diamonds, clubs);
+    if (flush != 0 && STRAIGHT[flush] != 0) {
+      return rank(PokerHandCategory.STRAIGHT_FLUSH, STRAIGHT[flush], 0);
+    }
+
+    int any = spades | hearts | diamonds | clubs;
+    int twoOrMore = (spades & hearts) | (diamonds & clubs) | ((spades | hearts) & (diamonds | clubs));
+    int threeOrMore = (spades & hearts & (diamonds | clubs)) | (diamonds & clubs & (spades | hearts));
+    int quads = spades & hearts & diamonds & clubs;
+    int trips = threeOrMore & ~quads;
+    int pairs = twoOrMore & ~threeOrMore;
+
+    if (quads != 0) {
+      int quad = Integer.highestOneBit(quads);
+      return rank(PokerHandCategory.FOUR_OF_A_KIND, quad, Integer.highestOneBit(any & ~quad));
+    }
+    if (trips != 0 && (pairs != 0 || Integer.bitCount(trips) > 1)) {
+      int trip = Integer.highestOneBit(trips);
+      int pair = Integer.highestOneBit((trips & ~trip) | pairs);
+      return rank(PokerHandCategory.FULL_HOUSE, trip, pair);
+    }
+    if (flush != 0) {
+      return rank(PokerHandCategory.FLUSH, TOP_FIVE[flush], 0);
+    }
+    if (STRAIGHT[any] != 0) {
+      return rank(PokerHandCategory.STRAIGHT, STRAIGHT[any], 0);
+    }
+    if (trips != 0) {
+      return rank(PokerHandCategory.THREE_OF_A_KIND, trips, keepHighest(any & ~trips, 2));
+    }
+    if (Integer.bitCount(pairs) >= 2) {
+      int twoPairs = keepHighest(pairs, 2);
+      return rank(PokerHandCategory.TWO_PAIR, twoPairs, Integer.highestOneBit(any & ~twoPairs));
+    }
+    if (pairs != 0) {
+      return rank(PokerHandCategory.ONE_PAIR, pairs, keepHighest(any & ~pairs, 3));
+    }
+    return rank(PokerHandCategory.HIGH_CARD, TOP_FIVE[any], 0);
+  }
+
+  /**
+   * Returns the category of a rank returned by {@link #evaluate(long)}.
+   *
+   * @param rank the rank of a hand
+   * @return the category of the hand
+   */
+  public static PokerHandCategory categoryOf(int rank) {
+    return CATEGORIES[rank >>> CATEGORY_SHIFT];
+  }
+
+  /*
+   * Returns the ace-high rank mask of the suit with five or more cards, or 0 if there is none.
+   * A hand of at most 7 cards can only have one such suit.
+   */
+  private static int flushRanks(int spades, int hearts, int diamonds, int clubs) {
+    if (Integer.bitCount(spades) >= 5) {
+      return spades;
+    }
+    if (Integer.bitCount(hearts) >= 5) {
+      return hearts;
+    }
+    if (Integer.bitCount(diamonds) >= 5) {
+      return diamonds;
+    }
+    if (Integer.bitCount(clubs) >= 5) {
+      return clubs;
+    }
+    return 0;
+  }
+
+  /*
+   * Combines a category, the ranks that decide the category, and the kickers into a rank.
+   */
+  private static int rank(PokerHandCategory category, int major, int kickers) {
+    return (category.ordinal() << CATEGORY_SHIFT) | (major << MAJOR_SHIFT) | kickers;
+  }
+
+  /*
+   * Keeps the n highest bits of a rank mask.
+   */
+  private static int keepHighest(int ranks, int n) {
+    int kept = 0;
+    for (int i = 0; i < n && ranks != 0; i++) {
+      int highest = Integer.highestOneBit(ranks);
+      kept |= highest;
+      ranks &= ~highest;
+    }
+    return kept;
+  }
+}
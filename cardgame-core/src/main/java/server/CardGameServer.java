@@ -0,0 +1,234 @@
+package server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import model.CardManager;
+import model.HandAnalysis;
+import model.PlayingCard;
+
+/**
+ * The CardGameServer class serves the card game to remote clients over a compact binary
+ * protocol on a TCP socket on the loopback interface. Every connection is a game of its own,
+ * with its own CardManager, and offers the same operations as the CardGameController:
+ * dealing a hand and checking the hand.
+ *
+ * <p>Every connection is handled by its own virtual thread, so an idle client only costs
+ * a parked virtual thread and its buffers. The game of a connection is only used by the
+ * thread of the connection and needs no locking.
+ *
+ * <p>A request is a single opcode byte. The responses start with the opcode of the request:
+ * <pre>
+ *   DEAL  (0x01) -&gt; 0x01, count, count card indexes
+ *   CHECK (0x02) -&gt; 0x02, sum (2 bytes), heart count, heart card indexes, flags
+ * </pre>
+ * The card indexes are one byte each (see {@link model.CardMask}). Bit 0 of the flags is the
+ * flush status and bit 1 is the queen of spades status. An unknown opcode is answered with
+ * ERROR (0xFF) and the connection is closed.
+ *
+ * <p>Requests may be pipelined: a client can send many requests without waiting for the
+ * responses. The responses are buffered and only flushed when there are no more requests
+ * waiting to be read, so a pipelined batch of requests is answered with one write.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class CardGameServer implements AutoCloseable {
+
+  /** The opcode of a request to deal a new hand. */
+  public static final byte DEAL = 0x01;
+  /** The opcode of a request to check the hand. */
+  public static final byte CHECK = 0x02;
+  /** The opcode of the response to an unknown request. */
+  public static final byte ERROR = (byte) 0xFF;
+  /** The number of playing cards in a dealt hand, as in the card game. */
+  public static final int HAND_SIZE = 5;
+
+  private static final int BUFFER_SIZE = 8192; // The size of the buffers of a connection
+  private static final Logger LOGGER = Logger.getLogger(CardGameServer.class.getName());
+
+  private final ServerSocket serverSocket; // The socket that accepts the connections
+  private final Supplier<CardManager> games; // Creates the game of a new connection
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet(); // The open connections
+
+  /**
+   * Creates an instance of a CardGameServer on the given port of the loopback interface,
+   * where every connection deals from a standard deck of playing cards.
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @throws IOException if the port cannot be opened
+   */
+  public CardGameServer(int port) throws IOException {
+    this(port, CardManager::new);
+  }
+
+  /**
+   * Creates an instance of a CardGameServer on the given port of the loopback interface.
+   *
+   * @param port the port to listen on, or 0 for any free port
+   * @param games creates the CardManager of every new connection
+   * @throws IOException if the port cannot be opened
+   * @throws NullPointerException if games is null
+   */
+  public CardGameServer(int port, Supplier<CardManager> games) throws IOException {
+    if (games == null) {
+      throw new NullPointerException("Games cannot be null");
+    }
+    this.games = games;
+    serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+  }
+
+  /**
+   * Starts accepting connections. The method returns at once, the connections are
+   * accepted and handled by virtual threads.
+   */
+  public void start() {
+    executor.execute(this::acceptConnections);
+  }
+
+  /**
+   * Returns the port the server listens on.
+   *
+   * @return the port of the server
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the number of open connections.
+   *
+   * @return the number of open connections
+   */
+  public int getConnectionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Stops accepting connections, closes all the open connections and waits for their
+   * threads to finish.
+   */
+  @Override
+  public void close() {
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      // The server socket is closed anyway
+    }
+    for (Socket socket : connections) {
+      closeQuietly(socket);
+    }
+    executor.close();
+  }
+
+  /*
+   * Accepts connections until the server socket is closed.
+   */
+  private void acceptConnections() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        connections.add(socket);
+        if (serverSocket.isClosed()) {
+          closeQuietly(socket); // The server was closed while the connection was accepted
+          return;
+        }
+        executor.execute(() -> serve(socket));
+      } catch (RejectedExecutionException e) {
+        return; // The server was closed, and has closed the connection
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          LOGGER.log(Level.WARNING, "Could not accept connection", e);
+        }
+      }
+    }
+  }
+
+  /*
+   * Reads the requests of a connection and writes the responses until the client disconnects.
+   */
+  private void serve(Socket socket) {
+    CardManager cardManager = games.get();
+    try (socket;
+        DataInputStream in = new DataInputStream(
+            new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE))) {
+      while (true) {
+        byte opcode = in.readByte();
+        switch (opcode) {
+          case DEAL -> dealHand(cardManager, out);
+          case CHECK -> checkHand(cardManager, out);
+          default -> {
+            out.writeByte(ERROR);
+            out.flush();
+            return;
+          }
+        }
+        if (in.available() == 0) {
+          out.flush();
+        }
+      }
+    } catch (EOFException | SocketException e) {
+      // The client disconnected or the server was closed
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Connection failed", e); // A failure of one client
+    } finally {
+      connections.remove(socket);
+    }
+  }
+
+  /*
+   * Deals a new hand and writes the cards of the hand.
+   */
+  private static void dealHand(CardManager cardManager, DataOutputStream out) throws IOException {
+    cardManager.drawCards(HAND_SIZE);
+    out.writeByte(DEAL);
+    out.writeByte(HAND_SIZE);
+    for (Iterator<PlayingCard> it = cardManager.getHand().getCardsOnHand(); it.hasNext(); ) {
+      out.writeByte(it.next().getIndex());
+    }
+  }
+
+  /*
+   * Checks the hand and writes the sum, the hearts, and the flush and queen of spades status.
+   */
+  private static void checkHand(CardManager cardManager, DataOutputStream out) throws IOException {
+    HandAnalysis analysis = cardManager.analyzeHand();
+    out.writeByte(CHECK);
+    out.writeShort(analysis.sum());
+    out.writeByte(analysis.heartCount());
+    for (String heart : analysis.hearts()) {
+      out.writeByte(PlayingCard.parse(heart).getIndex());
+    }
+    int flags = (analysis.flush() ? 1 : 0) | (analysis.queenOfSpades() ? 2 : 0);
+    out.writeByte(flags);
+  }
+
+  private static void closeQuietly(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      // The connection is closed anyway
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package app;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchMainTest contains test cases for the BatchMain class. The test cases are used to test
+ * the expected behavior when running the batch commands with valid and invalid arguments,
+ * and the format of the output. The test cases are structured using the Arrange, Act and
+ * Assert (AAA) pattern to structure the test methods.
+ */
+class BatchMainTest {
+
+  @TempDir
+  Path directory;
+
+  /**
+   * Positive test case for the deal command.
+   * The expected behavior is that one line is written per hand after the header line,
+   * and that the same seed deals the same hands.
+   */
+  @Test
+  void dealExpectedBehaviorTest() throws IOException {
+    Path first = directory.resolve("first.csv");
+    Path second = directory.resolve("second.csv");
+
+    int status = BatchMain.execute(new String[] {"deal", "--hands", "20", "--size", "5",
+        "--decks", "2", "--seed", "42", "--out", first.toString()});
+    BatchMain.execute(new String[] {"deal", "--hands", "20", "--size", "5",
+        "--decks", "2", "--seed", "42", "--out", second.toString()});
+
+    assertEquals(0, status);
+    List<String> lines = Files.readAllLines(first, StandardCharsets.UTF_8);
+    assertEquals(21, lines.size(), "Output should have a header line and 20 hands");
+    assertEquals("cards,sum,hearts,flush,queenOfSpades", lines.get(0));
+    String card = "[SHDC]\\d{1,2}";
+    String hand = "(" + card + " ){4}" + card + ",\\d+,[0-5],(true|false),(true|false)";
+    for (String line : lines.subList(1, lines.size())) {
+      assertTrue(line.matches(hand), "Unexpected hand line: " + line);
+    }
+    assertEquals(lines, Files.readAllLines(second, StandardCharsets.UTF_8),
+        "The same seed should deal the same hands");
+  }
+
+  /**
+   * Positive test case for the simulate and enumerate commands.
+   * The expected behavior is that the statistics of the hands are written.
+   */
+  @Test
+  void simulateAndEnumerateExpectedBehaviorTest() throws IOException {
+    Path simulation = directory.resolve("simulation.txt");
+    Path enumeration = directory.resolve("enumeration.txt");
+
+    int simulateStatus = BatchMain.execute(new String[] {"simulate", "--hands", "1000",
+        "--seed", "1", "--out", simulation.toString()});
+    int enumerateStatus = BatchMain.execute(new String[] {"enumerate", "--size", "1",
+        "--out", enumeration.toString()});
+
+    assertEquals(0, simulateStatus);
+    assertEquals(0, enumerateStatus);
+    List<String> simulated = Files.readAllLines(simulation, StandardCharsets.UTF_8);
+    assertEquals("hands=1000", simulated.get(0));
+    assertEquals("handSize=5", simulated.get(1));
+    List<String> enumerated = Files.readAllLines(enumeration, StandardCharsets.UTF_8);
+    assertEquals("hands=52", enumerated.get(0));
+    assertTrue(enumerated.contains("queenOfSpades=1 (0.01923077)"), enumerated.toString());
+  }
+
+  /**
+   * Negative test case for the execute method.
+   * The expected behavior is that invalid arguments end with the exit status 2.
+   */
+  @Test
+  void executeInvalidArgumentsTest() {
+    Path out = directory.resolve("out.csv");
+
+    assertEquals(2, BatchMain.execute(new String[0]), "No command");
+    assertEquals(2, BatchMain.execute(new String[] {"shuffle"}), "Unknown command");
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--colour", "red"}), "Unknown option");
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--hands"}), "Missing value");
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--hands", "many"}), "Invalid number");
+    assertEquals(2, BatchMain.execute(new String[] {"serve", "--decks", "0"}), "No decks");
+    assertEquals(2, BatchMain.execute(new String[] {"enumerate", "--size", "0",
+        "--out", out.toString()}), "Invalid hand size");
+  }
+
+  /**
+   * Negative test case for the execute method.
+   * The expected behavior is that a hand size larger than the decks, a negative hand size
+   * and a negative number of hands end with the exit status 2 instead of failing while
+   * dealing or writing empty hands.
+   */
+  @Test
+  void executeInvalidHandSizeTest() throws IOException {
+    Path out = directory.resolve("out.csv");
+
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--size", "60",
+        "--out", out.toString()}), "Hand larger than one deck");
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--size", "-3",
+        "--out", out.toString()}), "Negative hand size");
+    assertEquals(2, BatchMain.execute(new String[] {"deal", "--hands", "-1",
+        "--out", out.toString()}), "Negative number of hands");
+    assertEquals(2, BatchMain.execute(new String[] {"simulate", "--size", "53",
+        "--out", out.toString()}), "Simulated hand larger than one deck");
+    assertFalse(Files.exists(out), "No output should be written for invalid options");
+
+    assertEquals(0, BatchMain.execute(new String[] {"deal", "--size", "60", "--decks", "2",
+        "--out", out.toString()}), "Hand that fits in two decks");
+    assertEquals(2, Files.readAllLines(out, StandardCharsets.UTF_8).size());
+  }
+
+  /**
+   * Negative test case for the execute method.
+   * The expected behavior is that an output file that cannot be written ends with
+   * the exit status 1.
+   */
+  @Test
+  void executeUnwritableOutputTest() {
+    assertEquals(1, BatchMain.execute(new String[] {"deal", "--out", directory.toString()}));
+  }
+}
@@ -0,0 +1,110 @@
+package metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogramTest contains test cases for the LatencyHistogram class. The test cases
+ * are used to test the expected behavior when recording latencies and reading the count,
+ * the mean and the percentiles of a snapshot. The test cases are structured using the
+ * Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class LatencyHistogramTest {
+
+  /**
+   * Positive test case for the record and snapshot methods.
+   * The expected behavior is that the latencies are counted in buckets by powers of two,
+   * and that a percentile is bounded by the end of its bucket and the largest latency.
+   */
+  @Test
+  void recordExpectedBehaviorTest() {
+    LatencyHistogram histogram = new LatencyHistogram("test");
+
+    for (int i = 0; i < 99; i++) {
+      histogram.record(100);
+    }
+    histogram.record(5000);
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(100, snapshot.count());
+    assertEquals(99 * 100 + 5000, snapshot.totalNanos());
+    assertEquals(149.0, snapshot.meanNanos());
+    assertEquals(5000, snapshot.maxNanos());
+    assertEquals(99, snapshot.buckets()[7], "100 ns should be counted below 128 ns");
+    assertEquals(127, snapshot.percentileNanos(50));
+    assertEquals(127, snapshot.percentileNanos(99));
+    assertEquals(5000, snapshot.percentileNanos(100));
+  }
+
+  /**
+   * Positive test case for the start method and the stop method of the timing.
+   * The expected behavior is that a timed operation is recorded once.
+   */
+  @Test
+  void startAndStopExpectedBehaviorTest() {
+    LatencyHistogram histogram = new LatencyHistogram("test");
+
+    LatencyHistogram.Timing timing = histogram.start();
+    timing.stop();
+
+    assertEquals(1, histogram.snapshot().count());
+    assertEquals("test", histogram.getName());
+  }
+
+  /**
+   * Positive test case for the start method and the stop method of the timing.
+   * The expected behavior is that a recording with the event enabled records an operation
+   * event with the name of the histogram and the duration of the operation.
+   */
+  @Test
+  void stopCommitsTimedEventTest(@TempDir Path directory) throws IOException, InterruptedException {
+    LatencyHistogram histogram = new LatencyHistogram("test.sleep");
+    Path file = directory.resolve("operations.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable("cardgame.Operation");
+      recording.start();
+      LatencyHistogram.Timing timing = histogram.start();
+      Thread.sleep(20);
+      timing.stop();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals("cardgame.Operation"))
+        .filter(event -> "test.sleep".equals(event.getString("operation")))
+        .toList();
+    assertEquals(1, events.size(), "The operation should be recorded once");
+    assertTrue(events.get(0).getDuration().compareTo(Duration.ofMillis(20)) >= 0,
+        "The event should last as long as the operation: " + events.get(0).getDuration());
+  }
+
+  /**
+   * Negative test case for the record and percentileNanos methods.
+   * The expected behavior is that a negative latency is recorded as 0, that an empty
+   * histogram has percentiles of 0, and that an invalid percentile is rejected.
+   */
+  @Test
+  void recordNegativeLatencyTest() {
+    LatencyHistogram histogram = new LatencyHistogram("test");
+    assertEquals(0, histogram.snapshot().percentileNanos(99));
+
+    histogram.record(-5);
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(1, snapshot.buckets()[0]);
+    assertEquals(0, snapshot.totalNanos());
+    assertThrows(IllegalArgumentException.class, () -> snapshot.percentileNanos(101));
+  }
+}
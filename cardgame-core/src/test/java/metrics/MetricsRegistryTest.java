@@ -0,0 +1,64 @@
+package metrics;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import model.CardManager;
+import model.DeckOfCards;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MetricsRegistryTest contains test cases for the MetricsRegistry class. The test cases
+ * are used to test the expected behavior when counting and timing operations and writing
+ * a snapshot of the metrics. The test cases are structured using the Arrange, Act and
+ * Assert (AAA) pattern to structure the test methods.
+ */
+class MetricsRegistryTest {
+
+  /**
+   * Positive test case for the counter, latency and snapshot methods.
+   * The expected behavior is that a metric is created once by name, and that the snapshot
+   * is written with one line per metric sorted by name.
+   */
+  @Test
+  void snapshotExpectedBehaviorTest() {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.counter("b.counter").add(3);
+    registry.counter("a.counter").increment();
+    registry.latency("c.latency").record(2000);
+
+    MetricsSnapshot snapshot = registry.snapshot();
+    StringWriter text = new StringWriter();
+    snapshot.writeTo(new PrintWriter(text));
+
+    assertSame(registry.counter("a.counter"), registry.counter("a.counter"));
+    assertSame(registry.latency("c.latency"), registry.latency("c.latency"));
+    assertEquals(3, snapshot.counters().get("b.counter"));
+    assertEquals(1, snapshot.latencies().get("c.latency").count());
+    String[] lines = text.toString().split("\\R");
+    assertEquals("counter a.counter 1", lines[0]);
+    assertEquals("counter b.counter 3", lines[1]);
+    assertTrue(lines[2].startsWith("latency c.latency count=1 mean=2.000us"), lines[2]);
+  }
+
+  /**
+   * Positive test case for the default registry.
+   * The expected behavior is that dealing hands counts the drawn cards and times the
+   * deck resets in the default registry.
+   */
+  @Test
+  void defaultRegistryCountsDealsTest() {
+    MetricsRegistry registry = MetricsRegistry.getDefault();
+    long drawnBefore = registry.counter("deck.drawCard").sum();
+    long resetsBefore = registry.latency("cardManager.deckReset").snapshot().count();
+    CardManager cardManager = new CardManager(DeckOfCards.withSeed(42));
+
+    for (int i = 0; i < 11; i++) {
+      cardManager.drawCards(5);
+    }
+
+    assertTrue(registry.counter("deck.drawCard").sum() - drawnBefore >= 55);
+    assertTrue(registry.latency("cardManager.deckReset").snapshot().count() - resetsBefore >= 1);
+  }
+}
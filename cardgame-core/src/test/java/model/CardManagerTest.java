@@ -0,0 +1,137 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardManagerTest contains test cases for the CardManager class. The test cases
+ * are used to test the expected behavior when dealing hands, both one hand at a time
+ * and in batches. The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class CardManagerTest {
+
+  CardManager cardManager;
+
+  /**
+   * Sets up the test environment before each test method.
+   * Initializes the card manager with a full deck and an empty hand.
+   */
+  @BeforeEach
+  void setUp() {
+    cardManager = new CardManager();
+  }
+
+  /**
+   * Positive test case for the drawCards method.
+   * The expected behavior is that the hand contains the drawn cards.
+   */
+  @Test
+  void drawCardsExpectedBehaviorTest() {
+    cardManager.drawCards(5);
+    assertEquals(5, Long.bitCount(cardManager.getHand().getCardMask()), "Hand should have 5 cards");
+  }
+
+  /**
+   * Positive test case for the dealHands method with card indexes.
+   * The expected behavior is that every hand of a deck has different cards,
+   * and that the deck is reset when it runs short.
+   */
+  @Test
+  void dealHandsToIndexesTest() {
+    int[] cards = new int[20 * 5];
+    cardManager.dealHands(20, 5, cards);
+
+    long deck = 0;
+    for (int i = 0; i < 10 * 5; i++) { // The first 10 hands are dealt from one deck
+      assertEquals(0, deck & (1L << cards[i]), "A deck should not deal the same card twice");
+      deck |= 1L << cards[i];
+    }
+    for (int card : cards) {
+      assertTrue(card >= 0 && card < 52, "Card index should be between 0 and 51");
+    }
+  }
+
+  /**
+   * Positive test case for the dealHands method with card masks.
+   * The expected behavior is that every hand has the requested number of cards.
+   */
+  @Test
+  void dealHandsToMasksTest() {
+    long[] hands = new long[100];
+    cardManager.dealHands(100, 7, hands);
+    for (long hand : hands) {
+      assertEquals(7, Long.bitCount(hand), "Every hand should have 7 cards");
+    }
+  }
+
+  /**
+   * Negative test case for the dealHands method with card masks.
+   * The expected behavior is that an IllegalStateException is thrown for a shoe of six decks,
+   * where a hand can hold two copies of a card, and that the card indexes of the hands
+   * of the shoe can be dealt instead.
+   */
+  @Test
+  void dealHandsToMasksFromShoeTest() {
+    CardManager shoe = new CardManager(DeckOfCards.withSeed(6, 7));
+
+    assertThrows(IllegalStateException.class, () -> shoe.dealHands(100, 5, new long[100]));
+    int[] cards = new int[100 * 5];
+    shoe.dealHands(100, 5, cards);
+    int handsWithCopies = 0;
+    for (int i = 0; i < 100; i++) {
+      long mask = 0;
+      for (int j = 0; j < 5; j++) {
+        mask |= 1L << cards[i * 5 + j];
+      }
+      handsWithCopies += Long.bitCount(mask) < 5 ? 1 : 0;
+    }
+    assertTrue(handsWithCopies > 0, "A shoe should deal hands with two copies of a card");
+  }
+
+  /**
+   * Negative test case for the dealHands method.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid parameters.
+   */
+  @Test
+  void dealHandsInvalidParametersTest() {
+    assertThrows(IllegalArgumentException.class, () -> cardManager.dealHands(2, 5, new int[9]));
+    assertThrows(IllegalArgumentException.class, () -> cardManager.dealHands(2, 0, new int[10]));
+    assertThrows(IllegalArgumentException.class, () -> cardManager.dealHands(-1, 5, new long[1]));
+    assertThrows(IllegalArgumentException.class, () -> cardManager.dealHands(2, 5, new long[1]));
+  }
+
+  /**
+   * Positive test case for the replay method.
+   * The expected behavior is that a game is replayed from its seed and draw count,
+   * with the same hand and the same cards left in the deck.
+   */
+  @Test
+  void replayExpectedBehaviorTest() {
+    CardManager game = new CardManager(DeckOfCards.withSeed(2, 99));
+    for (int i = 0; i < 37; i++) {
+      game.drawCards(5);
+    }
+
+    CardManager replay = CardManager.replay(2, 5, game.getDeck().getSeed().getAsLong(),
+        game.getDeck().getDrawCount());
+
+    assertEquals(game.getHand().getCardMask(), replay.getHand().getCardMask());
+    assertEquals(game.getDeck().getCards().toList(), replay.getDeck().getCards().toList());
+    assertEquals(185, replay.getDeck().getDrawCount());
+  }
+
+  /**
+   * Negative test case for the replay method.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid parameters.
+   */
+  @Test
+  void replayInvalidParametersTest() {
+    assertThrows(IllegalArgumentException.class, () -> CardManager.replay(0, 5, 1, 10));
+    assertThrows(IllegalArgumentException.class, () -> CardManager.replay(1, 0, 1, 10));
+    assertThrows(IllegalArgumentException.class, () -> CardManager.replay(1, 5, 1, 12));
+    assertThrows(IllegalArgumentException.class, () -> CardManager.replay(1, 5, 1, -5));
+  }
+}
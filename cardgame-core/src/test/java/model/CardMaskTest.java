@@ -0,0 +1,81 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardMaskTest contains test cases for the CardMask class. The test cases
+ * are used to test the expected behavior when encoding playing cards as indexes
+ * and masks, and when evaluating masks for the sum, hearts, flush and queen of spades.
+ * The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class CardMaskTest {
+
+  /**
+   * Positive test case for the indexOf, suitOf and faceOf methods.
+   * The expected behavior is that every card round-trips through its index.
+   */
+  @Test
+  void indexRoundTripTest() {
+    for (int index = 0; index < CardMask.CARDS_PER_DECK; index++) {
+      char suit = CardMask.suitOf(index);
+      int face = CardMask.faceOf(index);
+      assertEquals(index, CardMask.indexOf(suit, face), "Index should round-trip");
+    }
+  }
+
+  /**
+   * Negative test case for the indexOf method.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid values.
+   */
+  @Test
+  void indexOfInvalidCardTest() {
+    assertThrows(IllegalArgumentException.class, () -> CardMask.indexOf('R', 1));
+    assertThrows(IllegalArgumentException.class, () -> CardMask.indexOf('H', 14));
+  }
+
+  /**
+   * Positive test case for the sumOfFaces method.
+   * The expected behavior is that the sum of the face values is calculated correctly.
+   */
+  @Test
+  void sumOfFacesTest() {
+    long mask = new PlayingCard('H', 5).getMask() | new PlayingCard('S', 12).getMask();
+    assertEquals(17, CardMask.sumOfFaces(mask), "Sum of cards should be 17");
+    assertEquals(4 * 91, CardMask.sumOfFaces(CardMask.FULL_DECK), "Sum of a deck should be 364");
+  }
+
+  /**
+   * Positive test case for the heartCount and containsQueenOfSpades methods.
+   * The expected behavior is that hearts and the queen of spades are detected.
+   */
+  @Test
+  void heartCountAndQueenOfSpadesTest() {
+    long mask = new PlayingCard('H', 5).getMask()
+        | new PlayingCard('H', 1).getMask()
+        | new PlayingCard('S', 12).getMask();
+    assertEquals(2, CardMask.heartCount(mask), "Mask should contain 2 hearts");
+    assertTrue(CardMask.containsQueenOfSpades(mask), "Mask should contain the queen of spades");
+    assertFalse(CardMask.containsQueenOfSpades(CardMask.HEARTS), "Hearts has no queen of spades");
+  }
+
+  /**
+   * Positive and negative test case for the isFlush method.
+   * The expected behavior is that only five or more cards of one suit are a flush.
+   */
+  @Test
+  void isFlushTest() {
+    long hearts = 0;
+    for (int face : new int[]{1, 3, 5, 10, 12}) {
+      hearts |= new PlayingCard('H', face).getMask();
+    }
+    long mixed = (hearts & ~new PlayingCard('H', 3).getMask()) | new PlayingCard('S', 3).getMask();
+    long fourHearts = hearts & ~new PlayingCard('H', 3).getMask();
+
+    assertTrue(CardMask.isFlush(hearts), "Five hearts should be a flush");
+    assertFalse(CardMask.isFlush(mixed), "Mixed suits should not be a flush");
+    assertFalse(CardMask.isFlush(fourHearts), "Four cards should not be a flush");
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -82,7 +83,8 @@ class DeckHandTest {
 
   /**
    * Positive test case that tests the expected behavior when checking if the hand has hearts.
-   * The expected behavior is that the method returns a list containing only the heart cards.
+   * The expected behavior is that the method returns a list containing only the heart cards,
+   * in the order they were added to the hand.
    */
   @Test
   void getHeartCardsExpectedBehaviorTest() {
@@ -93,6 +95,8 @@ class DeckHandTest {
     deckHand.addCard(new PlayingCard('H', 3));
 
     assertEquals(4, deckHand.getHeartCards().toList().size(), "Hand should contain 4 heart cards");
+    assertEquals(List.of("H5", "H1", "H10", "H3"), deckHand.getHeartCards().toList(),
+        "Hearts should be in the order they were added");
   }
 
   /**
@@ -184,4 +188,89 @@ class DeckHandTest {
     deckHand.addCard(new PlayingCard('H', 10));
     assertFalse(deckHand.isFlush(), "Hand should not contain a flush");
   }
-}
\ No newline at end of file
+
+  /**
+   * Positive test case that tests the expected behavior when ranking the hand as a poker hand.
+   * The expected behavior is that a hand with three fives and two twos is a full house.
+   */
+  @Test
+  void getPokerHandCategoryTest() {
+    deckHand.addCard(new PlayingCard('H', 5));
+    deckHand.addCard(new PlayingCard('S', 5));
+    deckHand.addCard(new PlayingCard('D', 5));
+    deckHand.addCard(new PlayingCard('C', 2));
+    deckHand.addCard(new PlayingCard('H', 2));
+    assertEquals(PokerHandCategory.FULL_HOUSE, deckHand.getPokerHandCategory());
+  }
+
+  /**
+   * Negative test case that tests the expected behavior when ranking a hand with too few cards.
+   * The expected behavior is that an IllegalStateException is thrown.
+   */
+  @Test
+  void evaluatePokerHandWithTooFewCardsTest() {
+    deckHand.addCard(new PlayingCard('H', 5));
+    assertThrows(IllegalStateException.class, () -> deckHand.evaluatePokerHand());
+  }
+
+  /**
+   * Positive test case that tests the expected behavior when the hand contains the same card
+   * more than once, which happens when dealing from a shoe of several decks.
+   * The expected behavior is that every copy of the card is counted.
+   */
+  @Test
+  void handWithDuplicateCardsTest() {
+    deckHand.addCard(PlayingCard.of('H', 5));
+    deckHand.addCard(PlayingCard.of('H', 5));
+    deckHand.addCard(PlayingCard.of('S', 12));
+    assertEquals(22, deckHand.calculateSumOfCards(), "Sum of cards should be 22");
+    assertEquals(2, deckHand.getHeartCount(), "Hand should contain 2 hearts");
+    assertEquals(2, deckHand.getHeartCards().count(), "Hand should contain 2 heart cards");
+  }
+
+  /**
+   * Positive test case for the statistics of the hand. The expected behavior is that the
+   * statistics follow the cards that are added, and are reset when the hand is cleared.
+   */
+  @Test
+  void statisticsAfterAddAndClearTest() {
+    for (int face = 1; face <= 13; face++) {
+      deckHand.addCard(PlayingCard.of('D', face));
+    }
+    deckHand.addCard(PlayingCard.of('S', 12));
+    assertEquals(13, deckHand.getSuitCount('D'), "Hand should contain 13 diamonds");
+    assertEquals(1, deckHand.getSuitCount('S'), "Hand should contain 1 spade");
+    assertEquals(103, deckHand.calculateSumOfCards(), "Sum of cards should be 103");
+    assertTrue(deckHand.isSpadeAndQueen());
+    assertFalse(deckHand.isFlush(), "Hand with a spade should not be a flush");
+
+    deckHand.clearHand();
+    deckHand.addCard(PlayingCard.of('H', 2));
+    assertEquals(0, deckHand.getSuitCount('D'), "Cleared hand should not contain diamonds");
+    assertEquals(2, deckHand.calculateSumOfCards(), "Sum of cards should be 2");
+    assertFalse(deckHand.isSpadeAndQueen(), "Cleared hand should not contain the queen of spades");
+    assertThrows(IllegalArgumentException.class, () -> deckHand.getSuitCount('X'));
+  }
+
+  /**
+   * Positive test case for the analyze method. The expected behavior is that the analysis
+   * matches the separate queries, is reused until the hand changes, and is not changed
+   * when the hand changes afterwards.
+   */
+  @Test
+  void analyzeExpectedBehaviorTest() {
+    deckHand.addCard(PlayingCard.of('H', 5));
+    deckHand.addCard(PlayingCard.of('S', 12));
+    deckHand.addCard(PlayingCard.of('H', 1));
+
+    HandAnalysis analysis = deckHand.analyze();
+    assertEquals(new HandAnalysis(18, List.of("H5", "H1"), false, true), analysis);
+    assertEquals(2, analysis.heartCount(), "Hand should contain 2 hearts");
+    assertSame(analysis, deckHand.analyze(), "Unchanged hand should reuse the analysis");
+
+    deckHand.addCard(PlayingCard.of('C', 2));
+    assertNotSame(analysis, deckHand.analyze(), "Changed hand should be analyzed again");
+    assertEquals(20, deckHand.analyze().sum());
+    assertEquals(18, analysis.sum(), "Old analysis should not change with the hand");
+  }
+}
@@ -0,0 +1,198 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeckOfCardsTest contains test cases for the DeckOfCards class. The test cases
+ * are used to test the expected behavior when creating a DeckOfCards object, and
+ * when calling its methods generateDeck, shuffle, drawCard, and getCardCount.
+ * The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods. The setDeck, getCards, and clearDeck
+ * methods are not tested as they are used when testing the other methods.
+ */
+class DeckOfCardsTest {
+
+  DeckOfCards deck;
+
+  /**
+   * Sets up the test environment before each test method.
+   * Initializes the deck object with 52 playing Cards.
+   */
+  @BeforeEach
+  void setUp() {
+    deck = new DeckOfCards();
+  }
+
+
+  /**
+   * Positive test case for the shuffle method.
+   * The expected behavior is that the deck is shuffled.
+   * Test case generated with the help of ChatGPT.
+   */
+  @Test
+  void ShuffleExpectedBehaviorTest() {
+    List<PlayingCard> originalOrder = deck.getCards().toList();
+    deck.shuffle();
+    List<PlayingCard> shuffledOrder = deck.getCards().toList();
+    assertNotEquals(originalOrder, shuffledOrder, "Deck should be shuffled");
+  }
+
+  /**
+   * Negative test case for the shuffle method. The expected behavior is that
+   * the method throws a null pointer exception because the deck is null.
+   */
+  @Test
+  void shuffleNullCardsTest() {
+    deck.setDeck(null);
+    assertThrows(NullPointerException.class, () -> deck.shuffle(), "Should throw IllegalStateException when deck is null");
+  }
+
+  /**
+   * Negative test case for the shuffle method. The expected behavior is that
+   * the method throws an illegal state exception because the deck is empty.
+   */
+  @Test
+  void shuffleEmptyDeckTest() {
+    deck.clearDeck();
+    assertThrows(IllegalStateException.class, () -> deck.shuffle(), "Should throw IllegalStateException when deck is empty");
+  }
+
+  /**
+   * Positive test case for the drawCard method. The expected behavior is that
+   * the method draws a card from the deck and that the deck has one less card.
+   */
+  @Test
+  void drawCardExpectedBehaviorTest() {
+    PlayingCard card = deck.drawCard();
+    assertNotNull(card, "Should return a card");
+    assertEquals(51, deck.getCards().toList().size(), "Deck should have one less card after drawing");
+  }
+
+  /**
+   * Negative test case for the drawCard method. The expected behavior is that
+   * the method throws an illegal state exception because the deck is empty.
+   */
+  @Test
+  void drawCardEmptyDeckTest() {
+    deck.clearDeck();
+    assertThrows(IllegalStateException.class, () -> deck.drawCard(), "Should throw IllegalStateException when deck is empty");
+  }
+
+  /**
+   * Positive test case for the getCardCount method. The expected behavior is that
+   * the method returns the number of cards in the deck.
+   */
+  @Test
+  void getCardCountTest() {
+    assertEquals(52, deck.getCardCount(), "Deck should have 52 cards");
+  }
+
+  /**
+   * Positive test case for the resetDeck method. The expected behavior is that
+   * the deck is reset to have 52 cards.
+   */
+  @Test
+  void resetDeckTest() {
+    deck.resetDeck();
+    assertEquals(52, deck.getCardCount(), "Deck should have 52 cards after reset");
+  }
+
+  /**
+   * Positive test case for the resetDeck method. The expected behavior is that
+   * the deck is regenerated with the canonical playing card instances.
+   */
+  @Test
+  void resetDeckUsesCanonicalCardsTest() {
+    deck.resetDeck();
+    assertTrue(deck.getCards().allMatch(card -> card == PlayingCard.of(card.getSuit(), card.getFace())),
+        "Deck should only contain canonical cards after reset");
+  }
+
+  /**
+   * Positive test case for the drawCard method. The expected behavior is that
+   * drawing the whole deck returns every one of the 52 playing cards exactly once.
+   */
+  @Test
+  void drawCardDrawsEveryCardOnceTest() {
+    long drawn = 0;
+    for (int i = 0; i < 52; i++) {
+      drawn |= deck.drawCard().getMask();
+    }
+    assertEquals(CardMask.FULL_DECK, drawn, "Every card should be drawn exactly once");
+    assertEquals(0, deck.getCardCount(), "Deck should be empty after drawing every card");
+  }
+
+  /**
+   * Positive test case for a shoe of several decks. The expected behavior is that
+   * the shoe has 52 cards per deck, and that every card is drawn once per deck.
+   */
+  @Test
+  void shoeDrawsEveryCardOncePerDeckTest() {
+    DeckOfCards shoe = new DeckOfCards(8);
+    assertEquals(416, shoe.getCardCount(), "Shoe should have 416 cards");
+
+    int[] drawn = new int[52];
+    while (shoe.getCardCount() > 0) {
+      drawn[shoe.drawCard().getIndex()]++;
+    }
+    for (int count : drawn) {
+      assertEquals(8, count, "Every card should be drawn once per deck");
+    }
+  }
+
+  /**
+   * Positive test case for the getRemainingCount method. The expected behavior is that
+   * the remaining count of a card goes down when it is drawn and is restored by a reset.
+   */
+  @Test
+  void getRemainingCountTest() {
+    DeckOfCards shoe = new DeckOfCards(6);
+    PlayingCard card = shoe.drawCard();
+    assertEquals(5, shoe.getRemainingCount(card), "Drawn card should have 5 copies left");
+    shoe.resetDeck();
+    assertEquals(6, shoe.getRemainingCount(card), "Reset should restore every copy");
+    assertEquals(312, shoe.getCardCount(), "Shoe should have 312 cards after reset");
+  }
+
+  /**
+   * Negative test case for a shoe of several decks. The expected behavior is that
+   * an IllegalArgumentException is thrown when the shoe has no decks.
+   */
+  @Test
+  void shoeWithoutDecksTest() {
+    assertThrows(IllegalArgumentException.class, () -> new DeckOfCards(0));
+  }
+
+  /**
+   * Positive test case for the withSeed method. The expected behavior is that two decks
+   * with the same seed shuffle and draw the same cards, and count the drawn cards.
+   */
+  @Test
+  void withSeedIsReproducibleTest() {
+    DeckOfCards first = DeckOfCards.withSeed(6, 42);
+    DeckOfCards second = DeckOfCards.withSeed(6, 42);
+    first.shuffle();
+    second.shuffle();
+
+    for (int i = 0; i < 100; i++) {
+      assertSame(first.drawCard(), second.drawCard(), "Same seed should draw the same cards");
+    }
+    assertEquals(42, first.getSeed().getAsLong());
+    assertEquals(100, first.getDrawCount(), "Deck should count the drawn cards");
+  }
+
+  /**
+   * Positive test case for the getSeed method. The expected behavior is that the seed
+   * is unknown for a deck created with a random generator of its own.
+   */
+  @Test
+  void getSeedTest() {
+    assertTrue(deck.getSeed().isPresent(), "Default deck should have a seed");
+    assertTrue(new DeckOfCards(new SplittableRandom(1)).getSeed().isEmpty());
+  }
+}
@@ -0,0 +1,116 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GameSessionManagerTest contains test cases for the GameSessionManager class. The test cases
+ * are used to test the expected behavior when dealing and checking hands in many sessions
+ * at the same time. The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class GameSessionManagerTest {
+
+  GameSessionManager sessionManager;
+
+  /**
+   * Sets up the test environment before each test method.
+   * Initializes a session manager with four lanes.
+   */
+  @BeforeEach
+  void setUp() {
+    sessionManager = new GameSessionManager(4);
+  }
+
+  /**
+   * Stops the lanes of the session manager after each test method.
+   */
+  @AfterEach
+  void tearDown() {
+    sessionManager.close();
+  }
+
+  /**
+   * Positive test case for the deal and check methods.
+   * The expected behavior is that the check sees the hand dealt in the same session.
+   */
+  @Test
+  void dealAndCheckExpectedBehaviorTest() {
+    long sessionId = sessionManager.openSession();
+
+    List<PlayingCard> cards = sessionManager.deal(sessionId, 5).join();
+    int sum = sessionManager.check(sessionId, CardManager::calculateSumOfCardsOnHand).join();
+    HandAnalysis analysis = sessionManager.check(sessionId).join();
+
+    assertEquals(5, cards.size(), "Hand should have 5 cards");
+    assertEquals(cards.stream().mapToInt(PlayingCard::getFace).sum(), sum);
+    assertEquals(sum, analysis.sum());
+  }
+
+  /**
+   * Positive test case for the deal method.
+   * The expected behavior is that many sessions dealt at the same time are independent,
+   * so every session deals a whole deck without repeating a card.
+   */
+  @Test
+  void sessionsAreIndependentTest() {
+    List<Long> sessionIds = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      sessionIds.add(sessionManager.openSession());
+    }
+
+    List<CompletableFuture<Long>> decks = new ArrayList<>();
+    for (long sessionId : sessionIds) {
+      CompletableFuture<Long> deck = CompletableFuture.completedFuture(0L);
+      for (int i = 0; i < 10; i++) {
+        deck = deck.thenCombine(sessionManager.deal(sessionId, 5), (mask, cards) -> {
+          for (PlayingCard card : cards) {
+            assertEquals(0, mask & card.getMask(), "A deck should not deal the same card twice");
+            mask |= card.getMask();
+          }
+          return mask;
+        });
+      }
+      decks.add(deck);
+    }
+
+    for (CompletableFuture<Long> deck : decks) {
+      assertEquals(50, Long.bitCount(deck.join()), "Every session should deal 50 cards");
+    }
+  }
+
+  /**
+   * Negative test case for the check method.
+   * The expected behavior is that an IllegalArgumentException is thrown for a session
+   * that is closed or was never opened.
+   */
+  @Test
+  void checkUnknownSessionTest() {
+    long sessionId = sessionManager.openSession();
+    assertTrue(sessionManager.closeSession(sessionId).join());
+    assertFalse(sessionManager.closeSession(sessionId).join());
+
+    CompletionException exception = assertThrows(CompletionException.class,
+        () -> sessionManager.deal(sessionId, 5).join());
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    assertThrows(CompletionException.class,
+        () -> sessionManager.check(12345, CardManager::checkIfHandContainsFlush).join());
+  }
+
+  /**
+   * Negative test case for the constructor.
+   * The expected behavior is that an IllegalArgumentException is thrown without lanes.
+   */
+  @Test
+  void constructorInvalidLaneCountTest() {
+    assertThrows(IllegalArgumentException.class, () -> new GameSessionManager(0));
+  }
+}
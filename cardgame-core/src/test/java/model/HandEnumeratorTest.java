@@ -0,0 +1,57 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandEnumeratorTest contains test cases for the HandEnumerator class. The test cases
+ * are used to test the expected behavior when enumerating every hand of a given size,
+ * and when finding a hand from its number. The test cases are structured using the
+ * Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class HandEnumeratorTest {
+
+  /**
+   * Positive test case for the enumerate method with hands of 5 cards.
+   * The expected behavior is that the statistics are the exact counts.
+   */
+  @Test
+  void enumerateFiveCardHandsTest() {
+    HandStatistics statistics = new HandEnumerator().enumerate(5);
+
+    assertEquals(2_598_960, statistics.getHandCount(), "There should be C(52,5) hands");
+    assertEquals(5_148, statistics.getFlushCount(), "There should be 4 * C(13,5) flushes");
+    assertEquals(249_900, statistics.getQueenOfSpadesCount(), "There should be C(51,4) hands with the queen");
+    assertEquals(1_287, statistics.getHeartsHistogram()[5], "There should be C(13,5) hands of hearts");
+    assertEquals(35.0, statistics.getAverageSum(), 1e-9);
+  }
+
+  /**
+   * Positive test case for the unrank method.
+   * The expected behavior is that the numbers of the hands follow the order of the card masks.
+   */
+  @Test
+  void unrankExpectedBehaviorTest() {
+    assertEquals(0b11111L, HandEnumerator.unrank(5, 0));
+    assertEquals(0b101111L, HandEnumerator.unrank(5, 1));
+    assertEquals(CardMask.CLUBS & (0b11111L << 47), HandEnumerator.unrank(5, 2_598_959));
+
+    long mask = HandEnumerator.unrank(3, 0);
+    for (long rank = 1; rank < HandEnumerator.handCount(3); rank++) {
+      mask = HandEnumerator.nextHand(mask);
+      assertEquals(HandEnumerator.unrank(3, rank), mask, "Unranking should match stepping");
+    }
+  }
+
+  /**
+   * Negative test case for the enumerate and unrank methods.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid parameters.
+   */
+  @Test
+  void invalidParametersTest() {
+    HandEnumerator enumerator = new HandEnumerator();
+    assertThrows(IllegalArgumentException.class, () -> enumerator.enumerate(0));
+    assertThrows(IllegalArgumentException.class, () -> HandEnumerator.unrank(5, 2_598_960));
+  }
+}
@@ -0,0 +1,144 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandJournalTest contains test cases for the HandJournal and HandJournalReader classes.
+ * The test cases are used to test the expected behavior when recording dealt hands in
+ * a journal and reading them back. The test cases are structured using the Arrange,
+ * Act and Assert (AAA) pattern to structure the test methods.
+ */
+class HandJournalTest {
+
+  @TempDir
+  Path directory;
+
+  /**
+   * Positive test case for the record and readHand methods.
+   * The expected behavior is that the hands dealt by a card manager are read back
+   * in the same order, and that a 5 card hand takes 5 bytes.
+   */
+  @Test
+  void recordAndReadExpectedBehaviorTest() throws IOException {
+    Path path = directory.resolve("hands.cgj");
+    List<List<PlayingCard>> dealt = new ArrayList<>();
+    try (HandJournal journal = new HandJournal(path)) {
+      CardManager cardManager = new CardManager(DeckOfCards.withSeed(3));
+      cardManager.setJournal(journal);
+      for (int i = 0; i < 100_000; i++) {
+        cardManager.drawCards(5);
+        dealt.add(cardsOf(cardManager.getHand()));
+      }
+      assertEquals(100_000, journal.getHandCount());
+    }
+
+    assertEquals(4 + 100_000 * 5, Files.size(path), "Every hand should take 5 bytes");
+    try (HandJournalReader reader = new HandJournalReader(path)) {
+      int[] cards = new int[5];
+      for (List<PlayingCard> hand : dealt) {
+        assertEquals(5, reader.readHand(cards));
+        for (int i = 0; i < 5; i++) {
+          assertSame(hand.get(i), PlayingCard.fromIndex(cards[i]));
+        }
+      }
+      assertEquals(-1, reader.readHand(cards), "Journal should end after the last hand");
+    }
+  }
+
+  /**
+   * Positive test case for the flush method and for appending to a journal.
+   * The expected behavior is that flushed hands can be read while the journal is open,
+   * and that a reopened journal appends its hands after the old ones.
+   */
+  @Test
+  void flushAndAppendTest() throws IOException {
+    Path path = directory.resolve("hands.cgj");
+    DeckHand hand = new DeckHand();
+    hand.addCard(PlayingCard.of('S', 12));
+    hand.addCard(PlayingCard.of('C', 13));
+
+    try (HandJournal journal = new HandJournal(path)) {
+      journal.record(hand);
+      journal.flush();
+      try (HandJournalReader reader = new HandJournalReader(path)) {
+        assertEquals(1, reader.hands().count(), "Flushed hand should be in the file");
+      }
+    }
+    try (HandJournal journal = new HandJournal(path)) {
+      hand.clearHand();
+      journal.record(hand);
+    }
+
+    try (HandJournalReader reader = new HandJournalReader(path)) {
+      List<List<PlayingCard>> hands = reader.hands().toList();
+      assertEquals(List.of(PlayingCard.of('S', 12), PlayingCard.of('C', 13)), hands.get(0));
+      assertEquals(List.of(), hands.get(1), "An empty hand should be recorded");
+    }
+  }
+
+  /**
+   * Positive test case for appending to a journal that ends in a partly written hand.
+   * The expected behavior is that the partly written hand is removed when the journal is
+   * opened, so the hands appended after it can be read.
+   */
+  @Test
+  void appendAfterTornHandTest() throws IOException {
+    Path path = directory.resolve("hands.cgj");
+    DeckHand hand = new DeckHand();
+    hand.addCard(PlayingCard.of('H', 1));
+    hand.addCard(PlayingCard.of('D', 10));
+    hand.addCard(PlayingCard.of('C', 4));
+    try (HandJournal journal = new HandJournal(path)) {
+      journal.record(hand);
+      journal.record(hand);
+    }
+    long size = Files.size(path);
+    Files.write(path, new byte[] {5, 1, 2}, StandardOpenOption.APPEND); // 5 cards need 5 bytes
+
+    try (HandJournal journal = new HandJournal(path)) {
+      assertEquals(size, Files.size(path), "The partly written hand should be removed");
+      journal.record(hand);
+    }
+
+    try (HandJournalReader reader = new HandJournalReader(path)) {
+      List<List<PlayingCard>> hands = reader.hands().toList();
+      assertEquals(3, hands.size());
+      assertEquals(cardsOf(hand), hands.get(2));
+    }
+  }
+
+  /**
+   * Negative test case for the journal.
+   * The expected behavior is that a file that is not a journal is rejected,
+   * and that a closed journal cannot record hands.
+   */
+  @Test
+  void invalidJournalTest() throws IOException {
+    Path text = Files.writeString(directory.resolve("text.txt"), "not a journal");
+    assertThrows(IOException.class, () -> new HandJournalReader(text));
+    assertThrows(IOException.class, () -> new HandJournal(text));
+
+    HandJournal journal = new HandJournal(directory.resolve("hands.cgj"));
+    journal.close();
+    assertThrows(IllegalStateException.class, () -> journal.record(new DeckHand()));
+  }
+
+  private static List<PlayingCard> cardsOf(DeckHand hand) {
+    List<PlayingCard> cards = new ArrayList<>();
+    for (Iterator<PlayingCard> it = hand.getCardsOnHand(); it.hasNext(); ) {
+      cards.add(it.next());
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,60 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandSimulatorTest contains test cases for the HandSimulator class. The test cases
+ * are used to test the expected behavior when simulating a number of hands, and that
+ * the simulated statistics are reproducible and close to the exact probabilities.
+ * The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class HandSimulatorTest {
+
+  /**
+   * Positive test case for the simulate method.
+   * The expected behavior is that every hand is recorded, and that the frequencies
+   * are close to the exact probabilities of a 5 card hand.
+   */
+  @Test
+  void simulateExpectedBehaviorTest() {
+    HandStatistics statistics = new HandSimulator().simulate(400_000, 5, 42);
+
+    assertEquals(400_000, statistics.getHandCount(), "Every hand should be recorded");
+    assertEquals(400_000, Arrays.stream(statistics.getSumHistogram()).sum());
+    assertEquals(5.0 / 52, statistics.getQueenOfSpadesFrequency(), 0.003);
+    assertEquals(5148.0 / 2_598_960, statistics.getFlushFrequency(), 0.0005);
+    assertEquals(35.0, statistics.getAverageSum(), 0.1);
+  }
+
+  /**
+   * Positive test case for the simulate method.
+   * The expected behavior is that the same seed gives the same statistics.
+   */
+  @Test
+  void simulateIsReproducibleTest() {
+    HandSimulator simulator = new HandSimulator();
+    HandStatistics first = simulator.simulate(300_000, 5, 7);
+    HandStatistics second = simulator.simulate(300_000, 5, 7);
+
+    assertArrayEquals(first.getSumHistogram(), second.getSumHistogram());
+    assertArrayEquals(first.getHeartsHistogram(), second.getHeartsHistogram());
+    assertEquals(first.getFlushCount(), second.getFlushCount());
+  }
+
+  /**
+   * Negative test case for the simulate method.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid parameters.
+   */
+  @Test
+  void simulateInvalidParametersTest() {
+    HandSimulator simulator = new HandSimulator();
+    assertThrows(IllegalArgumentException.class, () -> simulator.simulate(-1, 5, 0));
+    assertThrows(IllegalArgumentException.class, () -> simulator.simulate(10, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> simulator.simulate(10, 53, 0));
+  }
+}
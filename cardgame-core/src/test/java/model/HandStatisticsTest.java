@@ -0,0 +1,60 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandStatisticsTest contains test cases for the HandStatistics class. The test cases
+ * are used to test the expected behavior when recording hands and when merging statistics.
+ * The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class HandStatisticsTest {
+
+  /**
+   * Positive test case for the record method.
+   * The expected behavior is that the counters and histograms are updated.
+   */
+  @Test
+  void recordExpectedBehaviorTest() {
+    HandStatistics statistics = new HandStatistics(5);
+    statistics.record(17, 2, false, true);
+    statistics.record(31, 5, true, false);
+
+    assertEquals(2, statistics.getHandCount());
+    assertEquals(1, statistics.getFlushCount());
+    assertEquals(1, statistics.getQueenOfSpadesCount());
+    assertEquals(7, statistics.getHeartCount());
+    assertEquals(1, statistics.getSumHistogram()[17]);
+    assertEquals(24.0, statistics.getAverageSum());
+  }
+
+  /**
+   * Positive test case for the merge method.
+   * The expected behavior is that the statistics of both objects are added together.
+   */
+  @Test
+  void mergeExpectedBehaviorTest() {
+    HandStatistics first = new HandStatistics(5);
+    HandStatistics second = new HandStatistics(5);
+    first.record(17, 2, false, true);
+    second.record(17, 0, false, true);
+
+    first.merge(second);
+    assertEquals(2, first.getHandCount());
+    assertEquals(2, first.getQueenOfSpadesCount());
+    assertEquals(2, first.getSumHistogram()[17]);
+  }
+
+  /**
+   * Negative test case for the merge method and the constructor.
+   * The expected behavior is that an IllegalArgumentException is thrown for invalid hand sizes.
+   */
+  @Test
+  void invalidHandSizeTest() {
+    HandStatistics statistics = new HandStatistics(5);
+    assertThrows(IllegalArgumentException.class, () -> statistics.merge(new HandStatistics(7)));
+    assertThrows(IllegalArgumentException.class, () -> new HandStatistics(0));
+  }
+}
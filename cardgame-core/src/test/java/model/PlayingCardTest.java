@@ -157,4 +157,56 @@ class PlayingCardTest {
     PlayingCard card2 = new PlayingCard('H', 4);
     assertEquals(card1.hashCode(), card2.hashCode());
   }
-}
\ No newline at end of file
+
+  /**
+   * Positive test case for the of method. The expected behavior is that
+   * the same canonical instance is returned for the same suit and face values,
+   * and that it is equal to a card created with the constructor.
+   */
+  @Test
+  void ofReturnsCanonicalInstanceTest() {
+    PlayingCard card = PlayingCard.of('H', 4);
+    assertSame(card, PlayingCard.of('H', 4));
+    assertSame(card, PlayingCard.fromIndex(card.getIndex()));
+    assertEquals(new PlayingCard('H', 4), card);
+  }
+
+  /**
+   * Negative test case for the of method. The expected behavior is that
+   * an IllegalArgumentException is thrown for invalid suit or face values.
+   */
+  @Test
+  void ofInvalidCardTest() {
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.of('R', 1));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.of('H', 0));
+  }
+
+  /**
+   * Positive test case for the parse method. The expected behavior is that
+   * every card code returned by getAsString is parsed back to the same card.
+   */
+  @Test
+  void parseExpectedBehaviorTest() {
+    assertSame(PlayingCard.of('H', 12), PlayingCard.parse("H12"));
+    for (int index = 0; index < 52; index++) {
+      PlayingCard card = PlayingCard.fromIndex(index);
+      assertSame(card, PlayingCard.parse(card.getAsString()));
+    }
+  }
+
+  /**
+   * Negative test case for the parse method. The expected behavior is that
+   * an IllegalArgumentException is thrown for invalid card codes, and a
+   * NullPointerException is thrown for a null card code.
+   */
+  @Test
+  void parseInvalidCodeTest() {
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("H"));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("R5"));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("H14"));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("H0"));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("H1x"));
+    assertThrows(IllegalArgumentException.class, () -> PlayingCard.parse("H123"));
+    assertThrows(NullPointerException.class, () -> PlayingCard.parse(null));
+  }
+}
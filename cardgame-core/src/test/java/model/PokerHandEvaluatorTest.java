@@ -0,0 +1,98 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PokerHandEvaluatorTest contains test cases for the PokerHandEvaluator class. The test cases
+ * are used to test the expected behavior when ranking 5 card hands and the best 5 cards of
+ * 7 card hands. The test cases are structured using the Arrange, Act and Assert (AAA)
+ * pattern to structure the test methods.
+ */
+class PokerHandEvaluatorTest {
+
+  /*
+   * Returns the card mask of the given card codes (e.g. "H12").
+   */
+  private static long maskOf(String... codes) {
+    long mask = 0;
+    for (String code : codes) {
+      mask |= PlayingCard.parse(code).getMask();
+    }
+    return mask;
+  }
+
+  private static PokerHandCategory categoryOf(String... codes) {
+    return PokerHandEvaluator.categoryOf(PokerHandEvaluator.evaluate(maskOf(codes)));
+  }
+
+  /**
+   * Positive test case for the evaluate method.
+   * The expected behavior is that every category of 5 card hands is recognized.
+   */
+  @Test
+  void evaluateCategoriesTest() {
+    assertEquals(PokerHandCategory.STRAIGHT_FLUSH, categoryOf("H10", "H11", "H12", "H13", "H1"));
+    assertEquals(PokerHandCategory.FOUR_OF_A_KIND, categoryOf("H5", "S5", "D5", "C5", "H1"));
+    assertEquals(PokerHandCategory.FULL_HOUSE, categoryOf("H5", "S5", "D5", "C2", "H2"));
+    assertEquals(PokerHandCategory.FLUSH, categoryOf("H2", "H5", "H7", "H9", "H12"));
+    assertEquals(PokerHandCategory.STRAIGHT, categoryOf("H1", "S2", "D3", "C4", "H5"));
+    assertEquals(PokerHandCategory.THREE_OF_A_KIND, categoryOf("H5", "S5", "D5", "C2", "H9"));
+    assertEquals(PokerHandCategory.TWO_PAIR, categoryOf("H5", "S5", "D2", "C2", "H9"));
+    assertEquals(PokerHandCategory.ONE_PAIR, categoryOf("H5", "S5", "D2", "C7", "H9"));
+    assertEquals(PokerHandCategory.HIGH_CARD, categoryOf("H5", "S3", "D2", "C7", "H9"));
+  }
+
+  /**
+   * Positive test case for the evaluate method.
+   * The expected behavior is that stronger hands within a category have a higher rank.
+   */
+  @Test
+  void evaluateComparesHandsTest() {
+    int wheel = PokerHandEvaluator.evaluate(maskOf("H1", "S2", "D3", "C4", "H5"));
+    int sixHigh = PokerHandEvaluator.evaluate(maskOf("H6", "S2", "D3", "C4", "H5"));
+    int acesWithKing = PokerHandEvaluator.evaluate(maskOf("H1", "S1", "D13", "C4", "H5"));
+    int acesWithQueen = PokerHandEvaluator.evaluate(maskOf("H1", "S1", "D12", "C4", "H5"));
+    int kings = PokerHandEvaluator.evaluate(maskOf("H13", "S13", "D12", "C4", "H5"));
+
+    assertTrue(sixHigh > wheel, "A six-high straight should beat a five-high straight");
+    assertTrue(acesWithKing > acesWithQueen, "The kicker should decide between equal pairs");
+    assertTrue(acesWithQueen > kings, "A pair of aces should beat a pair of kings");
+  }
+
+  /**
+   * Positive test case for the evaluate method with 7 cards.
+   * The expected behavior is that the best 5 cards of the hand are ranked.
+   */
+  @Test
+  void evaluateBestOfSevenTest() {
+    assertEquals(PokerHandCategory.FLUSH, categoryOf("H2", "H5", "H7", "H9", "H12", "S10", "D11"));
+    assertEquals(PokerHandCategory.FULL_HOUSE, categoryOf("H5", "S5", "D5", "C9", "H9", "S9", "D2"));
+    assertEquals(PokerHandCategory.STRAIGHT, categoryOf("H6", "S7", "D8", "C9", "H10", "S10", "D10"));
+  }
+
+  /**
+   * Positive test case for the evaluate method. The expected behavior is that the
+   * categories of all 2,598,960 hands of 5 cards have the exact poker frequencies.
+   */
+  @Test
+  void evaluateAllFiveCardHandsTest() {
+    long[] counts = new long[PokerHandCategory.values().length];
+    for (long mask = HandEnumerator.unrank(5, 0); mask < 1L << 52; mask = HandEnumerator.nextHand(mask)) {
+      counts[PokerHandEvaluator.categoryOf(PokerHandEvaluator.evaluate(mask)).ordinal()]++;
+    }
+    assertArrayEquals(new long[]{1_302_540, 1_098_240, 123_552, 54_912, 10_200, 5_108, 3_744, 624, 40},
+        counts);
+  }
+
+  /**
+   * Negative test case for the evaluate method.
+   * The expected behavior is that an IllegalArgumentException is thrown for too few or too many cards.
+   */
+  @Test
+  void evaluateInvalidCardCountTest() {
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(maskOf("H1", "H2")));
+    assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(CardMask.HEARTS));
+  }
+}
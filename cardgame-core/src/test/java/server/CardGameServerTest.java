@@ -0,0 +1,150 @@
+package server;
+
+import model.PlayingCard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardGameServerTest contains test cases for the CardGameServer class. The test cases
+ * are used to test the expected behavior when clients deal and check hands over the
+ * binary protocol on localhost. The test cases are structured using the Arrange, Act
+ * and Assert (AAA) pattern to structure the test methods.
+ */
+class CardGameServerTest {
+
+  CardGameServer server;
+
+  /**
+   * Sets up the test environment before each test method.
+   * Starts a server on a free port of the loopback interface.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new CardGameServer(0);
+    server.start();
+  }
+
+  /**
+   * Stops the server after each test method.
+   */
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  /**
+   * Positive test case for the DEAL and CHECK requests.
+   * The expected behavior is that the check matches the dealt hand.
+   */
+  @Test
+  void dealAndCheckExpectedBehaviorTest() throws IOException {
+    try (Socket socket = connect()) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      socket.getOutputStream().write(new byte[] {CardGameServer.DEAL, CardGameServer.CHECK});
+
+      List<PlayingCard> cards = readDeal(in);
+      assertEquals(CardGameServer.CHECK, in.readByte());
+      int sum = in.readShort();
+      int heartCount = in.readByte();
+      List<PlayingCard> hearts = new ArrayList<>();
+      for (int i = 0; i < heartCount; i++) {
+        hearts.add(PlayingCard.fromIndex(in.readByte()));
+      }
+      int flags = in.readByte();
+
+      assertEquals(cards.stream().mapToInt(PlayingCard::getFace).sum(), sum);
+      assertEquals(cards.stream().filter(card -> card.getSuit() == 'H').toList(), hearts);
+      assertEquals(cards.contains(PlayingCard.of('S', 12)), (flags & 2) != 0);
+    }
+  }
+
+  /**
+   * Positive test case for pipelined requests.
+   * The expected behavior is that every request is answered in order, and that a deck
+   * does not deal the same card twice.
+   */
+  @Test
+  void pipelinedRequestsTest() throws IOException {
+    try (Socket socket = connect()) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      byte[] requests = new byte[10];
+      Arrays.fill(requests, CardGameServer.DEAL);
+      socket.getOutputStream().write(requests);
+
+      long deck = 0;
+      for (int i = 0; i < requests.length; i++) {
+        for (PlayingCard card : readDeal(in)) {
+          assertEquals(0, deck & card.getMask(), "A deck should not deal the same card twice");
+          deck |= card.getMask();
+        }
+      }
+      assertEquals(50, Long.bitCount(deck));
+    }
+  }
+
+  /**
+   * Positive test case for many connections.
+   * The expected behavior is that many idle clients are served at the same time.
+   */
+  @Test
+  void manyConnectionsTest() throws IOException {
+    List<Socket> sockets = new ArrayList<>();
+    try {
+      for (int i = 0; i < 200; i++) {
+        sockets.add(connect());
+      }
+      for (Socket socket : sockets) {
+        socket.getOutputStream().write(CardGameServer.DEAL);
+      }
+      for (Socket socket : sockets) {
+        assertEquals(5, readDeal(new DataInputStream(socket.getInputStream())).size());
+      }
+    } finally {
+      for (Socket socket : sockets) {
+        socket.close();
+      }
+    }
+  }
+
+  /**
+   * Negative test case for an unknown request.
+   * The expected behavior is that the server answers with ERROR and closes the connection.
+   */
+  @Test
+  void unknownRequestTest() throws IOException {
+    try (Socket socket = connect()) {
+      OutputStream out = socket.getOutputStream();
+      out.write(0x42);
+
+      assertEquals(CardGameServer.ERROR, (byte) socket.getInputStream().read());
+      assertEquals(-1, socket.getInputStream().read(), "Connection should be closed");
+    }
+  }
+
+  private Socket connect() throws IOException {
+    return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+  }
+
+  private static List<PlayingCard> readDeal(DataInputStream in) throws IOException {
+    assertEquals(CardGameServer.DEAL, in.readByte());
+    int count = in.readByte();
+    List<PlayingCard> cards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      cards.add(PlayingCard.fromIndex(in.readByte()));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,159 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import model.CardManager;
+import model.HandAnalysis;
+import model.PlayingCard;
+import view.CardGameView;
+
+/**
+ * The CardGameController class represents the controller of the card game application.
+ * It for interacting with the CardManager and CardGameView classes to connect
+ * logic and view together.
+ *
+ * <p>The card manager is only used by a background thread of the controller, so dealing and
+ * checking never block the JavaFX application thread. The results are copied and posted to
+ * the view with {@link Platform#runLater(Runnable)}. A request that has not started yet is
+ * cancelled when a newer request replaces it, and the result of a request is not shown if
+ * a new hand has been requested since, so the view only shows the latest hand.
+ *
+ * <p>The model work of the actions is timed, and the cancelled requests and the dropped
+ * results are counted, in the default {@link MetricsRegistry}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.3
+ * @since 03.12.2025
+ */
+public class CardGameController {
+  private static final int HAND_SIZE = 5; // The number of playing cards in a dealt hand
+  private static final LatencyHistogram DEAL_LATENCY =
+      MetricsRegistry.getDefault().latency("controller.dealHand"); // Times the work of a deal
+  private static final LatencyHistogram CHECK_LATENCY =
+      MetricsRegistry.getDefault().latency("controller.checkHand"); // Times the work of a check
+  private static final LongAdder CANCELLED_REQUESTS =
+      MetricsRegistry.getDefault().counter("controller.cancelled"); // Replaced before they ran
+  private static final LongAdder STALE_RESULTS =
+      MetricsRegistry.getDefault().counter("controller.staleResult"); // Results of an old hand
+
+  private final CardManager cardManager;
+  private final CardGameView cardGameView;
+  private final ExecutorService modelExecutor; // The thread that uses the card manager
+  private final AtomicLong handGeneration = new AtomicLong(); // Incremented by every deal
+  private final Logger logger = Logger.getLogger(CardGameController.class.getName());
+  private Future<?> pendingDeal; // The latest deal, only used on the JavaFX application thread
+  private Future<?> pendingCheck; // The latest check, only used on the JavaFX application thread
+
+  /**
+   * Creates an instance of a CardGameController object with a card manager and a card game view.
+
+   * @param cardManager The card manager of the card game application which
+   *                    is used to manage the deck of playing cards and the hand of playing cards
+   * @param cardGameView The card game view of the card game application
+   *                     which is used to display the graphical user interface
+   */
+  public CardGameController(CardManager cardManager, CardGameView cardGameView) {
+    this.cardManager = cardManager;
+    this.cardGameView = cardGameView;
+    modelExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "card-game-model");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Draws a hand of playing cards from the deck of playing
+   * cards and adds them to the hand of playing cards,
+   * and updates the card pane in the card game view.
+   * The hand is dealt in the background, and replaces any deal or check that has not
+   * been shown yet.
+   */
+  public void dealHand()  {
+    cancel(pendingDeal);
+    cancel(pendingCheck);
+    long generation = handGeneration.incrementAndGet();
+    pendingDeal = modelExecutor.submit(() -> run("dealHand", DEAL_LATENCY, () -> {
+      cardManager.drawCards(HAND_SIZE);
+      List<PlayingCard> cards = new ArrayList<>(HAND_SIZE);
+      cardManager.getHand().getCardsOnHand().forEachRemaining(cards::add);
+      post(generation, () -> cardGameView.updateCardPane(cards));
+    }));
+  }
+
+  /**
+   * Checks the hand of playing cards for the following:
+   * - The sum of the face values of the playing cards in the hand
+   * - The number of hearts in the hand
+   * - The flush status of the hand
+   * - The queen of spades status of the hand.
+   * The hand is checked in the background, after the deals that were requested before.
+   */
+  public void checkHand() {
+    cancel(pendingCheck);
+    long generation = handGeneration.get();
+    pendingCheck = modelExecutor.submit(() -> run("checkHand", CHECK_LATENCY, () -> {
+      HandAnalysis analysis = cardManager.analyzeHand();
+      post(generation, () -> cardGameView.updateInfoPane(analysis));
+    }));
+  }
+
+  /**
+   * Stops the background thread of the controller. Requests that have not started are dropped.
+   */
+  public void shutdown() {
+    modelExecutor.shutdownNow();
+  }
+
+  /*
+   * Cancels a request if it has not started yet.
+   */
+  private static void cancel(Future<?> request) {
+    if (request != null && request.cancel(false)) {
+      CANCELLED_REQUESTS.increment();
+    }
+  }
+
+  /*
+   * Shows a result on the JavaFX application thread, unless a new hand has been requested
+   * after the request of the result.
+   */
+  private void post(long generation, Runnable show) {
+    if (handGeneration.get() != generation) {
+      STALE_RESULTS.increment();
+      return;
+    }
+    Platform.runLater(() -> {
+      if (handGeneration.get() == generation) {
+        show.run();
+      } else {
+        STALE_RESULTS.increment();
+      }
+    });
+  }
+
+  /*
+   * Runs and times the model work of a request, and logs an error instead of losing it
+   * in the future.
+   */
+  private void run(String request, LatencyHistogram latency, Runnable work) {
+    LatencyHistogram.Timing timing = latency.start();
+    try {
+      work.run();
+      timing.stop();
+    } catch (RuntimeException e) {
+      logger.log(Level.SEVERE, "Unexpected error in " + request + "(): ", e);
+    }
+  }
+}
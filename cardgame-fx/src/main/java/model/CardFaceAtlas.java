@@ -0,0 +1,120 @@
+package model;
+
+import java.nio.IntBuffer;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+
+/**
+ * The CardFaceAtlas class represents a single image (a texture atlas) that contains
+ * the faces of all 52 playing cards. The faces are packed in a grid with one row per suit
+ * (Spades, Hearts, Diamonds and Clubs) and one column per face value, so the face of a
+ * card is found at the cell given by its index in {@link CardMask}.
+ *
+ * <p>A card is displayed by showing the atlas in an image view with the viewport
+ * returned by {@link #getViewport(PlayingCard)}, so every card on screen shares one image.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public class CardFaceAtlas {
+
+  private static final int COLUMNS = CardMask.FACES_PER_SUIT; // One column per face value
+  private static final int ROWS = CardMask.CARDS_PER_DECK / CardMask.FACES_PER_SUIT; // One row per suit
+
+  private final Image image; // The atlas with the faces of all the cards
+  private final int cellWidth; // The width of a card face in the atlas
+  private final int cellHeight; // The height of a card face in the atlas
+  private final Rectangle2D[] viewports; // The area of every card face in the atlas
+
+  /**
+   * Creates an instance of a CardFaceAtlas from an existing atlas image.
+   *
+   * @param image the atlas image, with the size of 13 by 4 card faces
+   * @param cellWidth the width of a card face in the atlas
+   * @param cellHeight the height of a card face in the atlas
+   * @throws IllegalArgumentException if the image does not have the size of 13 by 4 card faces
+   */
+  public CardFaceAtlas(Image image, int cellWidth, int cellHeight) {
+    if (image.getWidth() != (double) cellWidth * COLUMNS
+        || image.getHeight() != (double) cellHeight * ROWS) {
+      throw new IllegalArgumentException("Atlas image must have the size of 13 by 4 card faces");
+    }
+    this.image = image;
+    this.cellWidth = cellWidth;
+    this.cellHeight = cellHeight;
+    this.viewports = new Rectangle2D[CardMask.CARDS_PER_DECK];
+    for (int index = 0; index < viewports.length; index++) {
+      viewports[index] = new Rectangle2D(index % COLUMNS * cellWidth,
+          index / COLUMNS * cellHeight, cellWidth, cellHeight);
+    }
+  }
+
+  /**
+   * Builds an atlas by decoding every card face image at the given cell size and
+   * copying it into its cell of the atlas. The card faces are taken from the pixel cache
+   * of the card face manager instead when they have the cell size.
+   *
+   * @param cardFaceManager the card face manager used to decode the card face images
+   * @param cellWidth the width of a card face in the atlas
+   * @param cellHeight the height of a card face in the atlas
+   * @return the atlas with the faces of all the cards
+   * @throws IllegalArgumentException if the cell size is not positive,
+   *     or if a card face image could not be loaded
+   */
+  public static CardFaceAtlas build(CardFaceManager cardFaceManager, int cellWidth, int cellHeight) {
+    if (cellWidth <= 0 || cellHeight <= 0) {
+      throw new IllegalArgumentException("Cell size must be positive");
+    }
+    WritableImage atlas = new WritableImage(cellWidth * COLUMNS, cellHeight * ROWS);
+    int[] pixels = new int[cellWidth * cellHeight];
+    WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+    for (int index = 0; index < CardMask.CARDS_PER_DECK; index++) {
+      Image face = cardFaceManager.cardImageAtSize(PlayingCard.fromIndex(index), cellWidth, cellHeight);
+      face.getPixelReader().getPixels(0, 0, cellWidth, cellHeight, format, pixels, 0, cellWidth);
+      atlas.getPixelWriter().setPixels(index % COLUMNS * cellWidth, index / COLUMNS * cellHeight,
+          cellWidth, cellHeight, format, pixels, 0, cellWidth);
+    }
+    return new CardFaceAtlas(atlas, cellWidth, cellHeight);
+  }
+
+  /**
+   * Returns the atlas image with the faces of all the cards.
+   *
+   * @return the atlas image
+   */
+  public Image getImage() {
+    return image;
+  }
+
+  /**
+   * Returns the area of the atlas image that contains the face of a specific card.
+   *
+   * @param card the card whose face is to be located
+   * @return the viewport of the card face in the atlas image
+   */
+  public Rectangle2D getViewport(PlayingCard card) {
+    return viewports[card.getIndex()];
+  }
+
+  /**
+   * Returns the width of a card face in the atlas.
+   *
+   * @return the width of a card face
+   */
+  public int getCellWidth() {
+    return cellWidth;
+  }
+
+  /**
+   * Returns the height of a card face in the atlas.
+   *
+   * @return the height of a card face
+   */
+  public int getCellHeight() {
+    return cellHeight;
+  }
+}
@@ -0,0 +1,382 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * The CardFaceManager class represents a manager for the card face
+ * images of a deck of playing cards.
+ * It stores the images associated with the card faces in a map and
+ * provides a method for retrieving the image of a specific card face.
+ * The class is implemented using the ConcurrentHashMap and Image libraries.
+ *
+ * <p>The card face images are loaded on demand. An image is decoded the first time it is
+ * requested, either on the calling thread by {@link #getCardImage(PlayingCard)} or on a
+ * background thread by {@link #loadCardImageAsync(PlayingCard)} and
+ * {@link #preloadCardFaceImages()}. A placeholder image can be displayed while a card face
+ * is still loading.
+ *
+ * <p>The card faces can also be packed into a single {@link CardFaceAtlas}, which is built
+ * once in the background by {@link #loadCardAtlasAsync()}.
+ *
+ * <p>The card faces are decoded directly at the size of the {@link CardImageQuality} of the
+ * card face manager, not at the size of the image files, which are much larger than a card
+ * on screen.
+ *
+ * <p>A card face manager with a cache directory keeps the decoded pixels of the card faces
+ * and the background image in a {@link CardPixelCache} file in that directory. The first
+ * image requested opens the cache file on a background thread, and a warm start maps it
+ * instead of decoding any image file. The images wait for the cache without blocking the
+ * JavaFX application thread, unless they are requested with {@link #getCardImage(PlayingCard)}.
+ * If the cache cannot be used, the images are decoded from the image files instead.
+ *
+ * <p>The image loads and the opening of the pixel cache are timed in the default
+ * {@link MetricsRegistry}.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.4
+ * @since 03.09.2025
+ */
+public class CardFaceManager {
+
+  public static final int CARD_WIDTH = 100; // The width of a card on screen
+  public static final int CARD_HEIGHT = 150; // The height of a card on screen
+  private static final int PLACEHOLDER_COLOR = 0xFF2D6A4F; // The color of the placeholder image
+  private static final LatencyHistogram IMAGE_LOAD_LATENCY =
+      MetricsRegistry.getDefault().latency("cardFace.loadImage"); // Times every decoded image file
+  private static final LatencyHistogram CACHE_OPEN_LATENCY =
+      MetricsRegistry.getDefault().latency("cardFace.openPixelCache"); // Times opening the cache
+
+  private final Map<String, CompletableFuture<Image>> cardFaceImages;
+  private final Executor loader; // Decodes the card face images in the background
+  private final CardImageQuality quality; // The size the card face images are decoded at
+  private final Path cacheDirectory; // The directory of the pixel cache, or null without a cache
+  private final Logger logger = Logger.getLogger(CardFaceManager.class.getName());
+  private Image placeholderImage;
+  private CompletableFuture<CardFaceAtlas> cardFaceAtlas; // Built on first use
+  private final Object pixelCacheLock = new Object(); // Guards pixelCache only
+  private CompletableFuture<CardPixelCache> pixelCache; // Opened in the background on first use
+
+  /**
+   * Creates an instance of a CardFaceManager for the 52 unique face images of a deck
+   * of playing cards, decoded at the size of a card on screen.
+   * No images are loaded when the card face manager is created.
+   */
+  public CardFaceManager() {
+    this(CardImageQuality.NORMAL);
+  }
+
+  /**
+   * Creates an instance of a CardFaceManager for the 52 unique face images of a deck
+   * of playing cards, decoded at the size of the given quality.
+   * No images are loaded when the card face manager is created.
+   *
+   * @param quality the quality to decode the card face images at
+   * @throws NullPointerException if the quality is null
+   */
+  public CardFaceManager(CardImageQuality quality) {
+    this(quality, null);
+  }
+
+  /**
+   * Creates an instance of a CardFaceManager for the 52 unique face images of a deck
+   * of playing cards, decoded at the size of the given quality and kept in a pixel cache
+   * in the given directory.
+   * No images are loaded when the card face manager is created.
+   *
+   * @param quality the quality to decode the card face images at
+   * @param cacheDirectory the directory of the pixel cache, or null to decode the images
+   *     from the image files on every start
+   * @throws NullPointerException if the quality is null
+   */
+  public CardFaceManager(CardImageQuality quality, Path cacheDirectory) {
+    if (quality == null) {
+      throw new NullPointerException("Quality cannot be null");
+    }
+    this.quality = quality;
+    this.cacheDirectory = cacheDirectory;
+    cardFaceImages = new ConcurrentHashMap<>(); // Stores the card face images
+    loader = createLoader();
+  }
+
+  /*
+   * Creates the executor used to decode card face images in the background.
+   * The threads are daemon threads so that they never keep the application alive.
+   */
+  private static ExecutorService createLoader() {
+    int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "card-face-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Loads the card face images of a deck of playing cards into the cardFaceImages map
+   * and waits until all of them are loaded.
+   * The card face images are stored in the resources folder of the project.
+   * The card face images are named according to the following convention: "suit" + "rank" + ".png".
+   */
+  public void loadCardFaceImages() {
+    for (int index = 0; index < CardMask.CARDS_PER_DECK; index++) {
+      getCardImage(PlayingCard.fromIndex(index));
+    }
+  }
+
+  /**
+   * Starts loading every card face image that is not loaded yet in the background.
+   * The method returns immediately, and the returned future completes when all the
+   * card face images are loaded.
+   *
+   * @return a future that completes when all the card face images are loaded
+   */
+  public CompletableFuture<Void> preloadCardFaceImages() {
+    CompletableFuture<?>[] faces = new CompletableFuture<?>[CardMask.CARDS_PER_DECK];
+    for (int index = 0; index < faces.length; index++) {
+      faces[index] = loadCardImageAsync(PlayingCard.fromIndex(index));
+    }
+    return CompletableFuture.allOf(faces);
+  }
+
+  /**
+   * Returns the image of a specific card face. The image is loaded on the
+   * calling thread if it has not been loaded yet.
+
+   * @param card the card whose image is to be retrieved.
+   * @return the image of the card face.
+   * @throws IllegalArgumentException if the image of the card face could not be loaded
+   */
+  public Image getCardImage(PlayingCard card) {
+    try {
+      return cardFaceImage(card.getAsString(), false).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a future of the image of a specific card face. The image is loaded in the
+   * background if it has not been loaded yet, and the future is already completed if it has.
+   *
+   * @param card the card whose image is to be retrieved.
+   * @return a future of the image of the card face.
+   */
+  public CompletableFuture<Image> loadCardImageAsync(PlayingCard card) {
+    return cardFaceImage(card.getAsString(), true);
+  }
+
+  /**
+   * Returns the quality the card face images are decoded at.
+   *
+   * @return the quality of the card face images
+   */
+  public CardImageQuality getQuality() {
+    return quality;
+  }
+
+  /**
+   * Returns a future of the background image of the application. The image is taken from the
+   * pixel cache if the card face manager has one, and is otherwise decoded at its own size.
+   * Both happen in the background, so the method returns immediately.
+   *
+   * @return a future of the background image, which completes exceptionally
+   *     if the background image could not be loaded
+   */
+  public CompletableFuture<Image> loadBackgroundImageAsync() {
+    return pixelCacheAsync().thenApplyAsync(
+        cache -> cache != null ? cache.getBackgroundImage() : decodeBackgroundImage(), loader);
+  }
+
+  /**
+   * Returns a placeholder image with the size of a card, which can be displayed
+   * while the image of a card face is still loading.
+   *
+   * @return the placeholder image
+   */
+  public synchronized Image getPlaceholderImage() {
+    if (placeholderImage == null) {
+      WritableImage image = new WritableImage(CARD_WIDTH, CARD_HEIGHT);
+      PixelWriter writer = image.getPixelWriter();
+      for (int y = 0; y < CARD_HEIGHT; y++) {
+        for (int x = 0; x < CARD_WIDTH; x++) {
+          writer.setArgb(x, y, PLACEHOLDER_COLOR);
+        }
+      }
+      placeholderImage = image;
+    }
+    return placeholderImage;
+  }
+
+  /**
+   * Returns a future of the atlas with the faces of all the cards, at the size of the quality
+   * of the card face manager. The atlas is built in the background the first time the method
+   * is called, and again after a build has failed.
+   *
+   * @return a future of the card face atlas
+   */
+  public synchronized CompletableFuture<CardFaceAtlas> loadCardAtlasAsync() {
+    if (cardFaceAtlas == null) {
+      CompletableFuture<CardFaceAtlas> atlas = pixelCacheAsync().thenApplyAsync(
+          cache -> CardFaceAtlas.build(this, quality.getWidth(), quality.getHeight()), loader);
+      cardFaceAtlas = atlas;
+      atlas.whenComplete((built, error) -> {
+        if (error != null) {
+          forgetCardAtlas(atlas); // Allows a later retry
+        }
+      });
+    }
+    return cardFaceAtlas;
+  }
+
+  /*
+   * Forgets an atlas that could not be built, so that the next call of loadCardAtlasAsync
+   * builds the atlas again instead of returning the failed future.
+   */
+  private synchronized void forgetCardAtlas(CompletableFuture<CardFaceAtlas> atlas) {
+    if (cardFaceAtlas == atlas) {
+      cardFaceAtlas = null;
+    }
+  }
+
+  /*
+   * Returns the image of a card face at the given size. The image is taken from the pixel
+   * cache if it has that size, and is otherwise decoded without caching it.
+   * The method waits for the pixel cache to be opened, so it is not used on the JavaFX
+   * application thread.
+   */
+  Image cardImageAtSize(PlayingCard card, int width, int height) {
+    if (width == quality.getWidth() && height == quality.getHeight()) {
+      CardPixelCache cache = pixelCacheAsync().join();
+      if (cache != null) {
+        return cache.getCardImage(card);
+      }
+    }
+    return decodeCardImage(card, width, height);
+  }
+
+  /*
+   * Decodes the image of a card face directly at the given size, without caching it.
+   */
+  Image decodeCardImage(PlayingCard card, int width, int height) {
+    return loadImage(pathOf(card.getAsString()), width, height);
+  }
+
+  /*
+   * Decodes the background image at its own size, without caching it.
+   */
+  Image decodeBackgroundImage() {
+    return loadImage(CardPixelCache.BACKGROUND_PATH, 0, 0);
+  }
+
+  /*
+   * Returns a future of the pixel cache, and starts opening it on a loader thread the first
+   * time it is called. The future completes with null if the card face manager has no cache
+   * directory or the cache could not be opened. The lock is only held to create the future,
+   * so no caller waits here while the cache is built.
+   */
+  private CompletableFuture<CardPixelCache> pixelCacheAsync() {
+    synchronized (pixelCacheLock) {
+      if (pixelCache == null) {
+        pixelCache = cacheDirectory == null
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.supplyAsync(this::openPixelCache, loader);
+      }
+      return pixelCache;
+    }
+  }
+
+  /*
+   * Opens the pixel cache, or returns null if it could not be opened, in which case the
+   * images are decoded from the image files instead.
+   */
+  private CardPixelCache openPixelCache() {
+    LatencyHistogram.Timing timing = CACHE_OPEN_LATENCY.start();
+    try {
+      CardPixelCache cache = CardPixelCache.open(this, cacheDirectory);
+      timing.stop();
+      return cache;
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Could not use the pixel cache in " + cacheDirectory, e);
+      return null;
+    }
+  }
+
+  /*
+   * Returns the future of the image of a card face, and starts loading the image
+   * either in the background or on the calling thread if no future exists yet.
+   */
+  private CompletableFuture<Image> cardFaceImage(String cardName, boolean async) {
+    CompletableFuture<Image> existing = cardFaceImages.get(cardName);
+    if (existing != null) {
+      return existing;
+    }
+    CompletableFuture<Image> created = new CompletableFuture<>();
+    existing = cardFaceImages.putIfAbsent(cardName, created);
+    if (existing != null) {
+      return existing;
+    }
+    Consumer<CardPixelCache> load = cache -> {
+      try {
+        created.complete(cache != null
+            ? cache.getCardImage(PlayingCard.parse(cardName))
+            : loadImage(pathOf(cardName), quality.getWidth(), quality.getHeight()));
+      } catch (RuntimeException e) {
+        cardFaceImages.remove(cardName, created); // Allows a later retry
+        created.completeExceptionally(e);
+      }
+    };
+    if (async) {
+      pixelCacheAsync().thenAcceptAsync(load, loader); // Never blocks a loader thread
+    } else {
+      load.accept(pixelCacheAsync().join());
+    }
+    return created;
+  }
+
+  /*
+   * Returns the resource path of a card face image. The image files use lower case names (e.g. h4.png).
+   */
+  static String pathOf(String cardName) {
+    return "/cards/" + cardName.toLowerCase(Locale.ROOT) + ".png";
+  }
+
+  /*
+   * Loads an image from a given path. The path is relative to the resources folder of the project.
+   * The image is decoded at the given size, or at its own size if the width and height are 0.
+   */
+  private Image loadImage(String path, int width, int height) {
+    LatencyHistogram.Timing timing = IMAGE_LOAD_LATENCY.start();
+    try (InputStream stream = getClass().getResourceAsStream(path)) {
+      if (stream == null) {
+        throw new IllegalArgumentException("Error: Could not load image from path: " + path);
+      }
+      Image image = new Image(stream, width, height, false, true);
+      timing.stop();
+      return image;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error: Could not close image stream: " + path, e);
+    }
+  }
+}
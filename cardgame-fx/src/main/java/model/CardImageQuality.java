@@ -0,0 +1,74 @@
+package model;
+
+/**
+ * The CardImageQuality enum represents the sizes the card face images are decoded at.
+ * The images are decoded directly at the size of the quality, so no image is larger in
+ * memory than what is displayed, and the images do not have to be scaled when rendered.
+ *
+ * <ul>
+ *   <li>THUMBNAIL: half the size of a card on screen, for small card slots.</li>
+ *   <li>NORMAL: the size of a card on screen, for a screen with an output scale of 1.</li>
+ *   <li>HIDPI: twice the size of a card on screen, for HiDPI screens.</li>
+ * </ul>
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+public enum CardImageQuality {
+  THUMBNAIL(CardFaceManager.CARD_WIDTH / 2, CardFaceManager.CARD_HEIGHT / 2),
+  NORMAL(CardFaceManager.CARD_WIDTH, CardFaceManager.CARD_HEIGHT),
+  HIDPI(CardFaceManager.CARD_WIDTH * 2, CardFaceManager.CARD_HEIGHT * 2);
+
+  private final int width; // The width of a decoded card face in pixels
+  private final int height; // The height of a decoded card face in pixels
+
+  CardImageQuality(int width, int height) {
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * Returns the width of a card face decoded at this quality.
+   *
+   * @return the width in pixels
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Returns the height of a card face decoded at this quality.
+   *
+   * @return the height in pixels
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Returns the smallest quality that fills a card slot of the given size on a screen with
+   * the given output scale (e.g. 2.0 on a HiDPI screen) without upscaling, or the largest
+   * quality if none does.
+   *
+   * @param outputScale the output scale of the screen
+   * @param slotWidth the width of the card slot in the coordinates of the scene
+   * @param slotHeight the height of the card slot in the coordinates of the scene
+   * @return the quality to decode the card faces at
+   * @throws IllegalArgumentException if the output scale or the slot size is not positive
+   */
+  public static CardImageQuality forDisplay(double outputScale, double slotWidth,
+                                            double slotHeight) {
+    if (!(outputScale > 0) || !(slotWidth > 0) || !(slotHeight > 0)) {
+      throw new IllegalArgumentException("Output scale and slot size must be positive");
+    }
+    double pixelWidth = outputScale * slotWidth;
+    double pixelHeight = outputScale * slotHeight;
+    for (CardImageQuality quality : values()) {
+      if (quality.width >= pixelWidth && quality.height >= pixelHeight) {
+        return quality;
+      }
+    }
+    return HIDPI;
+  }
+}
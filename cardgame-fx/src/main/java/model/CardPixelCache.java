@@ -0,0 +1,245 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Locale;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The CardPixelCache class represents an on-disk cache of the decoded pixels of the card face
+ * images and the background image, so that a warm start does not decode any image file.
+ *
+ * <p>The cache file holds a header with the SHA-256 hash of the image resources, followed by
+ * the premultiplied ARGB pixels of the 52 card faces at the size of a {@link CardImageQuality}
+ * and of the background image at its own size. The file is memory-mapped, and every image is a
+ * {@link WritableImage} backed by a {@link PixelBuffer} over its part of the mapping.
+ * The cache file is rebuilt when the resources or the quality do not match the header.
+ * The pixels are stored in the native byte order, so a cache file is only valid on the
+ * platform that wrote it.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.1
+ * @since 18.10.2026
+ */
+final class CardPixelCache {
+
+  static final String BACKGROUND_PATH = "/application-background.jpg"; // The background image
+  private static final int MAGIC = 0x43475058; // "CGPX"
+  private static final int VERSION = 1; // The version of the cache file format
+  private static final int HASH_SIZE = 32; // The size of a SHA-256 hash in bytes
+  private static final int IMAGE_COUNT = CardMask.CARDS_PER_DECK + 1; // The card faces and the background
+  private static final int HEADER_SIZE = 4 * Integer.BYTES + HASH_SIZE + IMAGE_COUNT * 2 * Integer.BYTES;
+
+  private final Image[] images; // The card faces by card index, followed by the background
+
+  private CardPixelCache(Image[] images) {
+    this.images = images;
+  }
+
+  /**
+   * Opens the pixel cache of the card face manager in the given directory. The cache file is
+   * mapped if it matches the resources and the quality of the card face manager, and is
+   * otherwise decoded from the image files and written first.
+   *
+   * @param cardFaceManager the card face manager used to decode the images on a cold start
+   * @param directory the directory of the cache file, which is created if it does not exist
+   * @return the pixel cache
+   * @throws IOException if the cache file could not be read or written
+   */
+  static CardPixelCache open(CardFaceManager cardFaceManager, Path directory) throws IOException {
+    CardImageQuality quality = cardFaceManager.getQuality();
+    byte[] hash = hashResources();
+    Path file = directory.resolve("card-pixels-" + quality.name().toLowerCase(Locale.ROOT) + ".bin");
+    Image[] images = map(file, hash, quality);
+    if (images == null) {
+      write(file, hash, cardFaceManager);
+      images = map(file, hash, quality);
+      if (images == null) {
+        throw new IOException("Error: Could not read the pixel cache: " + file);
+      }
+    }
+    return new CardPixelCache(images);
+  }
+
+  /**
+   * Returns the cached image of a card face.
+   *
+   * @param card the card whose face is to be returned
+   * @return the image of the card face
+   */
+  Image getCardImage(PlayingCard card) {
+    return images[card.getIndex()];
+  }
+
+  /**
+   * Returns the cached background image.
+   *
+   * @return the background image
+   */
+  Image getBackgroundImage() {
+    return images[CardMask.CARDS_PER_DECK];
+  }
+
+  /*
+   * Returns the resource path of every cached image, in the order of the images in the cache.
+   */
+  private static String[] resourcePaths() {
+    String[] paths = new String[IMAGE_COUNT];
+    for (int index = 0; index < CardMask.CARDS_PER_DECK; index++) {
+      paths[index] = CardFaceManager.pathOf(PlayingCard.fromIndex(index).getAsString());
+    }
+    paths[CardMask.CARDS_PER_DECK] = BACKGROUND_PATH;
+    return paths;
+  }
+
+  /*
+   * Hashes the paths and the bytes of the image resources, so that a changed image file
+   * invalidates the cache. Reading the files is much cheaper than decoding them.
+   */
+  private static byte[] hashResources() throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+    for (String path : resourcePaths()) {
+      try (InputStream stream = CardPixelCache.class.getResourceAsStream(path)) {
+        if (stream == null) {
+          throw new IOException("Error: Could not load image from path: " + path);
+        }
+        digest.update(path.getBytes(StandardCharsets.UTF_8));
+        digest.update(stream.readAllBytes());
+      }
+    }
+    return digest.digest();
+  }
+
+  /*
+   * Maps the cache file and wraps the pixels of every image, or returns null if the file
+   * does not exist or does not match the hash, the quality or the byte order.
+   * The mapping is private, so a write to an image never reaches the file.
+   */
+  private static Image[] map(Path file, byte[] hash, CardImageQuality quality) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE) {
+        return null;
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.PRIVATE, 0, size);
+      byte[] storedHash = new byte[HASH_SIZE];
+      if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION
+          || mapped.getInt() != byteOrderFlag() || mapped.getInt() != IMAGE_COUNT) {
+        return null;
+      }
+      mapped.get(storedHash);
+      if (!Arrays.equals(storedHash, hash)) {
+        return null;
+      }
+      int[] widths = new int[IMAGE_COUNT];
+      int[] heights = new int[IMAGE_COUNT];
+      long pixelBytes = 0;
+      for (int index = 0; index < IMAGE_COUNT; index++) {
+        widths[index] = mapped.getInt();
+        heights[index] = mapped.getInt();
+        if (widths[index] <= 0 || heights[index] <= 0) {
+          return null;
+        }
+        pixelBytes += (long) widths[index] * heights[index] * Integer.BYTES;
+      }
+      if (widths[0] != quality.getWidth() || heights[0] != quality.getHeight()
+          || size != HEADER_SIZE + pixelBytes) {
+        return null;
+      }
+      Image[] images = new Image[IMAGE_COUNT];
+      int offset = HEADER_SIZE;
+      for (int index = 0; index < IMAGE_COUNT; index++) {
+        int length = widths[index] * heights[index] * Integer.BYTES;
+        IntBuffer pixels = mapped.slice(offset, length).order(ByteOrder.nativeOrder()).asIntBuffer();
+        images[index] = new WritableImage(new PixelBuffer<>(widths[index], heights[index], pixels,
+            PixelFormat.getIntArgbPreInstance()));
+        offset += length;
+      }
+      return images;
+    }
+  }
+
+  /*
+   * Decodes every image from its file and writes the cache file. The file is written next to
+   * the cache file and then moved into place, so a crash never leaves a partial cache file.
+   */
+  private static void write(Path file, byte[] hash, CardFaceManager cardFaceManager)
+      throws IOException {
+    CardImageQuality quality = cardFaceManager.getQuality();
+    Image[] images = new Image[IMAGE_COUNT];
+    for (int index = 0; index < CardMask.CARDS_PER_DECK; index++) {
+      images[index] = cardFaceManager.decodeCardImage(PlayingCard.fromIndex(index),
+          quality.getWidth(), quality.getHeight());
+    }
+    images[CardMask.CARDS_PER_DECK] = cardFaceManager.decodeBackgroundImage();
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(VERSION).putInt(byteOrderFlag()).putInt(IMAGE_COUNT).put(hash);
+    for (Image image : images) {
+      header.putInt((int) image.getWidth()).putInt((int) image.getHeight());
+    }
+    header.flip();
+
+    Files.createDirectories(file.getParent());
+    Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        for (Image image : images) {
+          int width = (int) image.getWidth();
+          int height = (int) image.getHeight();
+          ByteBuffer pixels = ByteBuffer.allocate(width * height * Integer.BYTES)
+              .order(ByteOrder.nativeOrder());
+          image.getPixelReader().getPixels(0, 0, width, height,
+              PixelFormat.getIntArgbPreInstance(), pixels.asIntBuffer(), width);
+          while (pixels.hasRemaining()) {
+            channel.write(pixels);
+          }
+        }
+      }
+      try {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /*
+   * Returns 1 if the pixels are stored little-endian and 0 if they are stored big-endian.
+   */
+  private static int byteOrderFlag() {
+    return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 0;
+  }
+}
@@ -0,0 +1,442 @@
+package view;
+
+import controller.CardGameController;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+import metrics.MetricsRegistry;
+import model.CardFaceManager;
+import model.CardImageQuality;
+import model.CardManager;
+import model.HandAnalysis;
+import model.PlayingCard;
+
+/**
+ * The CardGameView class represents the view of the card game application.
+ * The class is implemented using JavaFX,
+ * and it provides a graphical user interface for the card game.
+ * The cards are PNG images, and the card images are stored in the resources folder.
+ * When the system property {@code cardgame.atlas} is true, the cards are shown
+ * from a single card face atlas instead of one image per card.
+ * The card faces are decoded at the quality that fits the output scale of the screen,
+ * unless the system property {@code cardgame.quality} names a quality (e.g. HIDPI).
+ * The decoded card faces and background are cached in {@code ~/.cache/cardgame}, or in the
+ * directory named by the system property {@code cardgame.cache}, unless it is {@code none}.
+ * The metrics of the game are written to the file named by the system property
+ * {@code cardgame.metrics} when the application is closed.
+ *
+ * @author Johannes Nupen Theigen
+ * @version 0.0.4
+ * @since 03.12.2025
+ */
+public class CardGameView extends Application {
+
+  private static final Color BACKGROUND_COLOR = Color.rgb(0x2D, 0x6A, 0x4F); // Before the image
+
+  private CardGameController controller; // The controller of the card game application
+  private CardManager cardManager; // The card manager of the card game application
+  private CardFaceManager cardFaceManager; // The card face manager of the card game application
+  private Logger logger; // The logger of the card game application
+  private Label sumLabel; // The sum of the face values of the playing cards in the hand
+  private Label heartsLabel; // The number of hearts in the hand
+  private Label flushLabel; // The flush status of the hand
+  private Label queenLabel; // The queen of spades status of the hand
+  private HBox cardPane; // The pane for displaying the playing cards in the hand
+  private final List<ImageView> cardSlots = new ArrayList<>(); // The reusable card slots
+  private boolean cardPaneUpdatePending; // True if an update of the card pane is scheduled
+  private List<PlayingCard> pendingCards = List.of(); // The cards of the next card pane update
+  private final boolean atlasMode = Boolean.getBoolean("cardgame.atlas"); // Shows cards from one atlas
+
+  /**
+   * The main method of the CardGameView class used to launch the graphical user interface.
+   *
+   * @param args The command-line arguments
+   */
+  public static void main(String[] args) {
+    launch(args);
+  }
+
+  /**
+   * The start method of the CardGameView class which is used to set up the
+   * graphical user interface. The method creates a border pane layout with a card pane,
+   * an information pane, and a button pane. The method also creates a scene with the layout
+   * and sets the primary stage of the application.
+   *
+   * @param primaryStage The primary stage of the application
+   */
+  @Override
+  public void start(Stage primaryStage) {
+    logger = Logger.getLogger(CardGameView.class.getName()); // Used by the catch block below
+    try {
+      cardManager = new CardManager();
+      controller = new CardGameController(cardManager, this);
+      cardFaceManager = new CardFaceManager(chooseCardImageQuality(), chooseCacheDirectory());
+      if (atlasMode) {
+        cardFaceManager.loadCardAtlasAsync(); // Builds the atlas without blocking the first frame
+      } else {
+        cardFaceManager.preloadCardFaceImages(); // Warms the card faces without blocking the first frame
+      }
+
+      BorderPane borderPane = new BorderPane();
+
+      borderPane.setBackground(new Background(
+          new BackgroundFill(BACKGROUND_COLOR, null, null))); // Shown until the image is loaded
+      showWhenLoaded(cardFaceManager.loadBackgroundImageAsync(),
+          backgroundImage -> showBackgroundImage(borderPane, backgroundImage));
+      borderPane.setMaxWidth(300);
+      borderPane.setPrefWidth(100);
+
+      VBox leftBox = new VBox(10, createCardPane(), createInfoPane());
+      leftBox.setPadding(new Insets(20));
+      borderPane.setLeft(leftBox);
+
+      VBox rightBox = new VBox(createButtonPane());
+      rightBox.setPadding(new Insets(50, 20, 0, -50));
+      borderPane.setRight(rightBox);
+
+      Scene scene = new Scene(borderPane, 800, 600);
+      primaryStage.setScene(scene);
+      primaryStage.setTitle("Card Game");
+      primaryStage.show();
+    } catch (Exception e) {
+      logger.log(Level.SEVERE, "Unexpected error in start(): ", e);
+    }
+  }
+
+  /**
+   * The stop method of the CardGameView class which is called when the application is closed.
+   * The method stops the background thread of the controller, and writes a snapshot of the
+   * metrics to the file named by the system property cardgame.metrics if it is set.
+   */
+  @Override
+  public void stop() {
+    if (controller != null) {
+      controller.shutdown();
+    }
+    String metricsFile = System.getProperty("cardgame.metrics");
+    if (metricsFile != null) {
+      try (PrintWriter writer = new PrintWriter(
+          Files.newBufferedWriter(Path.of(metricsFile), StandardCharsets.UTF_8))) {
+        MetricsRegistry.getDefault().snapshot().writeTo(writer);
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not write the metrics to " + metricsFile, e);
+      }
+    }
+  }
+
+  /*
+   * The chooseCardImageQuality method is used to choose the quality of the card face images
+   * from the system property cardgame.quality, or from the output scale of the primary screen
+   * and the size of a card slot. An unknown quality in the property is logged and ignored.
+   */
+  private CardImageQuality chooseCardImageQuality() {
+    String quality = System.getProperty("cardgame.quality");
+    if (quality != null) {
+      try {
+        return CardImageQuality.valueOf(quality.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        logger.log(Level.WARNING, "Unknown card image quality " + quality
+            + ", choosing the quality from the screen");
+      }
+    }
+    Screen screen = Screen.getPrimary();
+    double outputScale = Math.max(screen.getOutputScaleX(), screen.getOutputScaleY());
+    return CardImageQuality.forDisplay(outputScale,
+        CardFaceManager.CARD_WIDTH, CardFaceManager.CARD_HEIGHT);
+  }
+
+  /*
+   * The chooseCacheDirectory method is used to choose the directory of the pixel cache
+   * from the system property cardgame.cache, or ~/.cache/cardgame if it is not set.
+   * The method returns null, which disables the cache, if the property is none.
+   */
+  private static Path chooseCacheDirectory() {
+    String directory = System.getProperty("cardgame.cache");
+    if (directory == null) {
+      return Path.of(System.getProperty("user.home"), ".cache", "cardgame");
+    }
+    return directory.equalsIgnoreCase("none") ? null : Path.of(directory);
+  }
+
+  /*
+   * The createCardPane method is used to create a pane
+   * for displaying the playing cards in the hand.
+   */
+  private HBox createCardPane() {
+    cardPane = new HBox(10);
+    cardPane.setAlignment(Pos.CENTER);
+    cardPane.setPrefSize(500, 200);
+    return cardPane;
+  }
+
+  /*
+   * The createButtonPane method is used to create a pane for displaying
+   * the buttons for dealing a hand and checking the hand.
+   */
+  private VBox createButtonPane() {
+    VBox buttonPane = new VBox(20);
+    buttonPane.setPrefSize(300, 250);
+    buttonPane.setAlignment(Pos.CENTER);
+    buttonPane.setPadding(new Insets(100, 50, 0, 0));
+
+    Button dealHandButton = createStyledButton("Deal Hand");
+    dealHandButton.setOnAction(e -> controller.dealHand());
+
+    Button checkHandButton = createStyledButton("Check Hand");
+    checkHandButton.setOnAction(e -> controller.checkHand());
+
+
+    buttonPane.getChildren().addAll(dealHandButton, checkHandButton);
+    return buttonPane;
+  }
+
+  /*
+   * The createStyledButton method is used to create a button with a specific style.
+   */
+  private Button createStyledButton(String text) {
+    Button button = new Button(text);
+    button.setPrefSize(150, 50);
+    button.setStyle("-fx-font-size: 20px; -fx-font-family: 'Garamond';"
+        + " -fx-background-color: #2d6a4f; -fx-text-fill: black;");
+    return button;
+  }
+
+  /*
+   * The createInfoPane method is used to create a pane for displaying information about the hand.
+   */
+  private GridPane createInfoPane() {
+    GridPane infoPane = new GridPane();
+    infoPane.setPadding(new Insets(15));
+    infoPane.setHgap(40);
+    infoPane.setVgap(15);
+
+    sumLabel = new Label("0"); // Default value for the sum of the face values
+    heartsLabel = new Label("No"); // Default value for the number of hearts
+    flushLabel = new Label("No"); // Default value for the flush status
+    queenLabel = new Label("No"); // Default value for the queen of spades status
+
+    HBox sumPane = createInfoRow("Sum:", sumLabel);
+    HBox heartsPane = createInfoRow("Hearts:", heartsLabel);
+    HBox flushPane = createInfoRow("Flush:", flushLabel);
+    HBox queenPane = createInfoRow("Queen of Spades:", queenLabel);
+
+    infoPane.add(sumPane, 0, 0);
+    infoPane.add(heartsPane, 1, 0);
+    infoPane.add(flushPane, 0, 1);
+    infoPane.add(queenPane, 1, 1);
+
+    return infoPane;
+  }
+
+  /**
+   * The createInfoRow method is used to create a row with a label and a value label.
+   * The method creates an HBox layout with a label and a value label, and returns the layout.
+   *
+   * @param labelText  The text of the label
+   * @param valueLabel The value label
+   * @return The info row layout
+   */
+  private HBox createInfoRow(String labelText, Label valueLabel) {
+    HBox row = new HBox(10);
+    row.setAlignment(Pos.CENTER_LEFT);
+    row.setPadding(new Insets(5, 10, 5, 10));
+
+    Text label = new Text(labelText);
+    label.setStyle("-fx-font-size: 25px; -fx-font-family:"
+        + " 'Poppins'; -fx-fill: white;");
+
+    valueLabel.setPrefSize(140, 50);
+    valueLabel.setAlignment(Pos.CENTER);
+    valueLabel.setStyle("-fx-font-size: 20px; -fx-font-family: 'Garamond'; "
+        + " -fx-background-color: #2d6a4f; -fx-text-fill: white; -fx-border-color: black;");
+
+    row.getChildren().addAll(label, valueLabel);
+    return row;
+  }
+
+  /**
+   * The updateInfoPane method is used to update the information
+   * pane with the sum of the face values,
+   * the hearts, the flush status, and the queen of spades status of the hand.
+   *
+   * @param analysis the analysis of the hand
+   */
+  public void updateInfoPane(HandAnalysis analysis) {
+    sumLabel.setText(String.valueOf(analysis.sum()));
+    List<String> hearts = analysis.hearts();
+    heartsLabel.setText(hearts.isEmpty() ? "No" : String.join(", ", hearts));
+    flushLabel.setText(analysis.flush() ? "Yes" : "No");
+    queenLabel.setText(analysis.queenOfSpades() ? "Yes" : "No");
+  }
+
+  /**
+   * The updateCardPane method is used to update the card pane with the playing cards in the hand.
+   * The card pane keeps a pool of card slots, which are image views that are reused between
+   * deals: only the image of a slot is changed, and slots are only added to or removed from the
+   * pane when the number of cards changes. Several updates before the next pulse are coalesced
+   * into one. A card face that is still loading is shown as a placeholder until its image is ready.
+   * The method must be called on the JavaFX application thread.
+   *
+   * @param cards the playing cards in the hand
+   */
+  public void updateCardPane(List<PlayingCard> cards) {
+    pendingCards = cards;
+    if (!cardPaneUpdatePending) {
+      cardPaneUpdatePending = true;
+      Platform.runLater(this::applyCardPaneUpdate);
+    }
+  }
+
+  /*
+   * The applyCardPaneUpdate method is used to show the playing cards in the hand in the card
+   * slots, and to add or remove card slots when the number of cards has changed.
+   */
+  private void applyCardPaneUpdate() {
+    cardPaneUpdatePending = false;
+    try {
+      int cardCount = 0;
+      for (PlayingCard card : pendingCards) {
+        if (cardCount == cardSlots.size()) {
+          cardSlots.add(createCardSlot());
+        }
+        showCard(cardSlots.get(cardCount++), card);
+      }
+      ObservableList<Node> shown = cardPane.getChildren();
+      if (shown.size() > cardCount) {
+        shown.remove(cardCount, shown.size());
+      } else if (shown.size() < cardCount) {
+        shown.addAll(cardSlots.subList(shown.size(), cardCount));
+      }
+    } catch (Exception e) {
+      logger.log(Level.SEVERE, "Unexpected error in updateCardPane(): ", e);
+    }
+  }
+
+  /*
+   * The createCardSlot method is used to create an empty card slot, which is an image view
+   * showing the placeholder image.
+   */
+  private ImageView createCardSlot() {
+    ImageView imageView = new ImageView(cardFaceManager.getPlaceholderImage());
+    imageView.setFitWidth(CardFaceManager.CARD_WIDTH);
+    imageView.setFitHeight(CardFaceManager.CARD_HEIGHT);
+    return imageView;
+  }
+
+  /*
+   * The showCard method is used to show a playing card in a card slot. The card of a slot
+   * is kept as its user data, so a slot that already shows the card is left as it is, and
+   * an image that finishes loading after the slot has got another card is not shown.
+   * A slot whose image could not be loaded forgets its card, so the next deal tries again.
+   * In atlas mode the slot shows the card through a viewport of the card face atlas.
+   */
+  private void showCard(ImageView slot, PlayingCard card) {
+    if (slot.getUserData() == card) {
+      return;
+    }
+    slot.setUserData(card);
+    slot.setImage(cardFaceManager.getPlaceholderImage());
+    if (atlasMode) {
+      showWhenLoaded(cardFaceManager.loadCardAtlasAsync(), atlas -> {
+        if (slot.getUserData() == card) {
+          slot.setImage(atlas.getImage());
+          slot.setViewport(atlas.getViewport(card));
+        }
+      }, () -> forgetCard(slot, card));
+    } else {
+      showWhenLoaded(cardFaceManager.loadCardImageAsync(card), image -> {
+        if (slot.getUserData() == card) {
+          slot.setImage(image);
+        }
+      }, () -> forgetCard(slot, card));
+    }
+  }
+
+  /*
+   * The forgetCard method is used to clear the card of a slot after its image could not be
+   * loaded, unless the slot has got another card in the meantime.
+   */
+  private static void forgetCard(ImageView slot, PlayingCard card) {
+    if (slot.getUserData() == card) {
+      slot.setUserData(null);
+    }
+  }
+
+  /*
+   * The showBackgroundImage method is used to display the background image of the application
+   * once it has been loaded.
+   */
+  private static void showBackgroundImage(BorderPane borderPane, Image backgroundImage) {
+    BackgroundImage background = new BackgroundImage(
+        backgroundImage,
+        BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT,
+        BackgroundPosition.CENTER,
+        new BackgroundSize(100, 100, true, true, false, true)
+    );
+    borderPane.setBackground(new Background(background));
+  }
+
+  /*
+   * The showWhenLoaded method is used to display a loaded image right away, or on the
+   * JavaFX application thread once it has finished loading in the background.
+   * A failed load is logged, also when the future had already failed.
+   */
+  private <T> void showWhenLoaded(CompletableFuture<T> future, Consumer<T> show) {
+    showWhenLoaded(future, show, () -> { });
+  }
+
+  /*
+   * The showWhenLoaded method is used to display a loaded image as above, and to run the
+   * given action on the JavaFX application thread when the image could not be loaded.
+   */
+  private <T> void showWhenLoaded(CompletableFuture<T> future, Consumer<T> show,
+      Runnable onFailure) {
+    if (future.isDone() && !future.isCompletedExceptionally()) {
+      show.accept(future.join());
+      return;
+    }
+    future.whenComplete((result, error) -> Platform.runLater(() -> {
+      if (error != null) {
+        logger.log(Level.SEVERE, "Could not load image: ", error);
+        onFailure.run();
+      } else {
+        show.accept(result);
+      }
+    }));
+  }
+}
\ No newline at end of file
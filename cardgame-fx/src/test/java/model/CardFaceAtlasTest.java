@@ -0,0 +1,57 @@
+package model;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardFaceAtlasTest contains test cases for the CardFaceAtlas class. The test cases
+ * are used to test the expected behavior when building a card face atlas and when
+ * locating the face of a card in the atlas. The test cases are structured using the
+ * Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class CardFaceAtlasTest {
+
+  /**
+   * Positive test case for the build method.
+   * The expected behavior is that the atlas has room for 13 by 4 card faces,
+   * and that the pixels of a card face are copied into its cell.
+   */
+  @Test
+  void buildExpectedBehaviorTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    CardFaceAtlas atlas = CardFaceAtlas.build(cardFaceManager, 20, 30);
+    PlayingCard card = PlayingCard.of('D', 7);
+    Image face = cardFaceManager.decodeCardImage(card, 20, 30);
+    Rectangle2D viewport = atlas.getViewport(card);
+
+    assertEquals(260, atlas.getImage().getWidth(), "Atlas should be 13 card faces wide");
+    assertEquals(120, atlas.getImage().getHeight(), "Atlas should be 4 card faces high");
+    assertEquals(face.getPixelReader().getArgb(10, 15),
+        atlas.getImage().getPixelReader().getArgb((int) viewport.getMinX() + 10,
+            (int) viewport.getMinY() + 15), "Card face should be copied into its cell");
+  }
+
+  /**
+   * Positive test case for the getViewport method.
+   * The expected behavior is that the viewport is the cell given by the suit and face of the card.
+   */
+  @Test
+  void getViewportExpectedBehaviorTest() {
+    CardFaceAtlas atlas = CardFaceAtlas.build(new CardFaceManager(), 20, 30);
+    Rectangle2D viewport = atlas.getViewport(PlayingCard.of('H', 12));
+    assertEquals(new Rectangle2D(220, 30, 20, 30), viewport);
+  }
+
+  /**
+   * Negative test case for the build method.
+   * The expected behavior is that an IllegalArgumentException is thrown for an invalid cell size.
+   */
+  @Test
+  void buildInvalidCellSizeTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    assertThrows(IllegalArgumentException.class, () -> CardFaceAtlas.build(cardFaceManager, 0, 30));
+  }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import java.util.concurrent.CompletableFuture;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardFaceManagerTest contains test cases for the CardFaceManager class. The test cases
+ * are used to test the expected behavior when loading card face images and retrieving
+ * card images from the card face manager.  The test cases are structured using the
+ * Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class CardFaceManagerTest {
+
+  /**
+   * Positive test case for the loadCardFaceImages method.
+   * The expected behavior is that the card face images are loaded successfully.
+   */
+  @Test
+  void loadCardFaceImagesExpectedBehaviorTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    cardFaceManager.loadCardFaceImages();
+    assertNotNull(cardFaceManager);
+  }
+
+  /**
+   * Positive test case for the getCardImage method.
+   * The expected behavior is that the card image is retrieved successfully.
+   */
+  @Test
+  void getCardImageExpectedBehaviorTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    PlayingCard card = new PlayingCard('H', 1);
+    Image image = cardFaceManager.getCardImage(card);
+    assertNotNull(image, "Image should not be null for a valid card.");
+  }
+
+  /**
+   * Positive test case for the preloadCardFaceImages method.
+   * The expected behavior is that all card face images are loaded in the background,
+   * and that the loaded images are returned by getCardImage.
+   */
+  @Test
+  void preloadCardFaceImagesExpectedBehaviorTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    cardFaceManager.preloadCardFaceImages().join();
+    PlayingCard card = PlayingCard.of('S', 12);
+    CompletableFuture<Image> face = cardFaceManager.loadCardImageAsync(card);
+    assertTrue(face.isDone(), "Card face should be loaded after preloading");
+    assertSame(face.join(), cardFaceManager.getCardImage(card));
+  }
+
+  /**
+   * Positive test case for the getPlaceholderImage method.
+   * The expected behavior is that a placeholder image with the size of a card is returned.
+   */
+  @Test
+  void getPlaceholderImageExpectedBehaviorTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager();
+    Image placeholder = cardFaceManager.getPlaceholderImage();
+    assertNotNull(placeholder, "Placeholder image should not be null");
+    assertEquals(100, placeholder.getWidth(), "Placeholder image should have the width of a card");
+  }
+
+  /**
+   * Positive test case for the getCardImage method with a quality.
+   * The expected behavior is that the card face is decoded at the size of the quality.
+   */
+  @Test
+  void getCardImageDecodedAtQualityTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager(CardImageQuality.HIDPI);
+    Image image = cardFaceManager.getCardImage(PlayingCard.of('D', 7));
+    assertEquals(200, image.getWidth(), "HiDPI card face should be 200 pixels wide");
+    assertEquals(300, image.getHeight(), "HiDPI card face should be 300 pixels high");
+    assertEquals(100, new CardFaceManager().getCardImage(PlayingCard.of('D', 7)).getWidth());
+  }
+}
@@ -0,0 +1,41 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardImageQualityTest contains test cases for the CardImageQuality enum. The test cases
+ * are used to test the expected behavior when choosing the quality of the card face images
+ * from the output scale of the screen and the size of a card slot. The test cases are
+ * structured using the Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class CardImageQualityTest {
+
+  /**
+   * Positive test case for the forDisplay method.
+   * The expected behavior is that the smallest quality that fills the slot is chosen.
+   */
+  @Test
+  void forDisplayExpectedBehaviorTest() {
+    assertEquals(CardImageQuality.NORMAL, CardImageQuality.forDisplay(1.0, 100, 150));
+    assertEquals(CardImageQuality.HIDPI, CardImageQuality.forDisplay(2.0, 100, 150));
+    assertEquals(CardImageQuality.HIDPI, CardImageQuality.forDisplay(1.25, 100, 150));
+    assertEquals(CardImageQuality.THUMBNAIL, CardImageQuality.forDisplay(1.0, 40, 60));
+    assertEquals(CardImageQuality.HIDPI, CardImageQuality.forDisplay(3.0, 100, 150),
+        "The largest quality should be chosen when no quality fills the slot");
+  }
+
+  /**
+   * Negative test case for the forDisplay method.
+   * The expected behavior is that an IllegalArgumentException is thrown for a scale or
+   * a slot size that is not positive.
+   */
+  @Test
+  void forDisplayInvalidParametersTest() {
+    assertThrows(IllegalArgumentException.class, () -> CardImageQuality.forDisplay(0, 100, 150));
+    assertThrows(IllegalArgumentException.class, () -> CardImageQuality.forDisplay(1, -1, 150));
+    assertThrows(IllegalArgumentException.class,
+        () -> CardImageQuality.forDisplay(Double.NaN, 100, 150));
+  }
+}
@@ -0,0 +1,115 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardPixelCacheTest contains test cases for the CardPixelCache class. The test cases
+ * are used to test the expected behavior when writing the decoded images to the cache file
+ * and mapping them again on a warm start. The test cases are structured using the
+ * Arrange, Act and Assert (AAA) pattern to structure the test methods.
+ */
+class CardPixelCacheTest {
+
+  @TempDir
+  Path cacheDirectory;
+
+  /**
+   * Positive test case for the open method.
+   * The expected behavior is that a cold start writes the cache file, and that a warm start
+   * maps the same pixels as the images decoded from the image files.
+   */
+  @Test
+  void openExpectedBehaviorTest() throws IOException {
+    CardFaceManager cardFaceManager = new CardFaceManager(CardImageQuality.THUMBNAIL);
+    PlayingCard card = PlayingCard.of('D', 7);
+
+    CardPixelCache.open(cardFaceManager, cacheDirectory);
+    CardPixelCache cache = CardPixelCache.open(cardFaceManager, cacheDirectory);
+
+    assertTrue(Files.isRegularFile(cacheDirectory.resolve("card-pixels-thumbnail.bin")));
+    Image cached = cache.getCardImage(card);
+    Image decoded = cardFaceManager.decodeCardImage(card, 50, 75);
+    assertInstanceOf(WritableImage.class, cached);
+    assertEquals(50, cached.getWidth());
+    assertEquals(75, cached.getHeight());
+    for (int y = 0; y < 75; y += 7) {
+      for (int x = 0; x < 50; x += 7) {
+        assertEquals(decoded.getPixelReader().getArgb(x, y), cached.getPixelReader().getArgb(x, y),
+            "Cached pixel should match the decoded pixel at " + x + "," + y);
+      }
+    }
+    Image background = cache.getBackgroundImage();
+    assertEquals(cardFaceManager.decodeBackgroundImage().getWidth(), background.getWidth());
+  }
+
+  /**
+   * Positive test case for the open method.
+   * The expected behavior is that a cache file that does not match its header is rebuilt.
+   */
+  @Test
+  void openRebuildsInvalidCacheTest() throws IOException {
+    CardFaceManager cardFaceManager = new CardFaceManager(CardImageQuality.THUMBNAIL);
+    CardPixelCache.open(cardFaceManager, cacheDirectory);
+    Path file = cacheDirectory.resolve("card-pixels-thumbnail.bin");
+    long size = Files.size(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), 20); // Corrupts the hash
+    }
+
+    CardPixelCache cache = CardPixelCache.open(cardFaceManager, cacheDirectory);
+
+    assertEquals(size, Files.size(file));
+    assertEquals(50, cache.getCardImage(PlayingCard.of('S', 1)).getWidth());
+  }
+
+  /**
+   * Positive test case for the getCardImage method of the CardFaceManager class.
+   * The expected behavior is that a card face manager with a cache directory returns the
+   * cached images, and that the atlas is built from them.
+   */
+  @Test
+  void cardFaceManagerUsesCacheTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager(CardImageQuality.THUMBNAIL,
+        cacheDirectory);
+
+    Image image = cardFaceManager.getCardImage(PlayingCard.of('H', 12));
+    CardFaceAtlas atlas = cardFaceManager.loadCardAtlasAsync().join();
+
+    assertInstanceOf(WritableImage.class, image);
+    assertEquals(50, image.getWidth());
+    assertEquals(50 * 13, atlas.getImage().getWidth());
+    assertInstanceOf(WritableImage.class, cardFaceManager.loadBackgroundImageAsync().join());
+  }
+
+  /**
+   * Positive test case for the loadBackgroundImageAsync method of the CardFaceManager class.
+   * The expected behavior is that the method returns before the pixel cache is built, and
+   * that the background and all the card faces are loaded from the cache in the background.
+   */
+  @Test
+  void cardFaceManagerOpensCacheInBackgroundTest() {
+    CardFaceManager cardFaceManager = new CardFaceManager(CardImageQuality.THUMBNAIL,
+        cacheDirectory);
+
+    CompletableFuture<Image> background = cardFaceManager.loadBackgroundImageAsync();
+    CompletableFuture<Void> faces = cardFaceManager.preloadCardFaceImages();
+
+    assertFalse(background.isDone(), "A cold start should build the cache in the background");
+    faces.join();
+    assertInstanceOf(WritableImage.class, background.join());
+    assertInstanceOf(WritableImage.class, cardFaceManager.getCardImage(PlayingCard.of('C', 2)));
+    assertNotNull(cardFaceManager.getPlaceholderImage());
+  }
+}